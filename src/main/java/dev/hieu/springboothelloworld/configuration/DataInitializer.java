@@ -1,11 +1,14 @@
 package dev.hieu.springboothelloworld.configuration;
 
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
 import dev.hieu.springboothelloworld.domain.Status;
 import dev.hieu.springboothelloworld.domain.Todo;
 import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
@@ -22,10 +25,12 @@ import java.util.Random;
 public class DataInitializer implements CommandLineRunner {
 
     private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void run(String... args) throws Exception {
-        if (todoRepository.count() == 0) {
+        // A replica that has not caught up yet would look empty and get the primary seeded twice
+        if (PrimaryReads.call(todoRepository::count) == 0) {
             log.info("Initializing mock data from CSV...");
             
             List<Todo> mockTodos = loadTodosFromCsv();
@@ -48,6 +53,9 @@ public class DataInitializer implements CommandLineRunner {
         } else {
             log.info("Database already contains data. Skipping initialization.");
         }
+        
+        // Let in-memory indexes rebuild from whatever the table now holds
+        eventPublisher.publishEvent(new TodoDataLoadedEvent());
     }
     
     private List<Todo> loadTodosFromCsv() {
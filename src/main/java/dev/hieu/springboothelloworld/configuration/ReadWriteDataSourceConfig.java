@@ -0,0 +1,87 @@
+package dev.hieu.springboothelloworld.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.hieu.springboothelloworld.configuration.datasource.ReadWriteRoutingDataSource;
+import dev.hieu.springboothelloworld.configuration.datasource.ReadYourWritesFilter;
+import dev.hieu.springboothelloworld.configuration.datasource.ReadYourWritesWindow;
+import dev.hieu.springboothelloworld.configuration.datasource.ReplicaProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, active once {@code todo.datasource.replicas} lists at least one replica.
+ * <p>
+ * Transactions marked {@code readOnly} run on a replica, all others (and work outside transactions,
+ * such as schema initialization) on the primary configured under {@code spring.datasource}.
+ * Cache loads and maintenance jobs pin their reads to the primary with
+ * {@link dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads}.
+ * Without replicas Spring Boot's own single data source is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesWindow(replicaProperties.getReadYourWritesWindow(),
+                replicaProperties.getReadYourWritesMaximumClients());
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesWindow readYourWritesWindow) {
+        return new ReadYourWritesFilter(readYourWritesWindow);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            HikariDataSource primaryDataSource, DataSourceProperties dataSourceProperties,
+            ReplicaProperties replicaProperties, ReadYourWritesWindow readYourWritesWindow) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+            replicas.add(replica(i, replicaProperties.getReplicas().get(i), primaryDataSource, dataSourceProperties));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas,
+                replicaProperties.getReplicaSelection(), readYourWritesWindow);
+    }
+
+    /**
+     * The data source everything else (JPA, JdbcTemplate, schema initialization) is given. Fetching
+     * the connection at the first statement lets routing see whether the transaction is read-only.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    private static HikariDataSource replica(int index, ReplicaProperties.Replica replica, HikariDataSource primary,
+                                            DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setAutoCommit(primary.isAutoCommit());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
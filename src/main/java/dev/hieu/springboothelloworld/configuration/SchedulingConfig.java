@@ -0,0 +1,13 @@
+package dev.hieu.springboothelloworld.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs, such as the periodic reconciliation of
+ * in-memory counters with the database.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,74 @@
+package dev.hieu.springboothelloworld.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Regions of Hibernate's second-level cache, backed by Caffeine through JCache. Sizes and TTLs
+ * come from {@code todo.second-level-cache}; hit and miss counts are published by Micrometer's
+ * Hibernate binder as {@code hibernate.second.level.cache.requests} and
+ * {@code hibernate.cache.query.requests}.
+ * <p>
+ * JPQL {@code UPDATE}/{@code DELETE} statements (bulk operations, and single-todo writes outside
+ * the postgres profile) make Hibernate invalidate the whole {@code todo} region.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String TODO_REGION = "todo";
+
+    /**
+     * One cache manager per application context: test contexts living in the same JVM would
+     * otherwise share, and on shutdown close, each other's regions.
+     */
+    @Bean
+    public CacheManager secondLevelCacheManager(
+            @Value("${todo.second-level-cache.todo.maximum-size:10000}") long todoMaximumSize,
+            @Value("${todo.second-level-cache.todo.ttl:PT10M}") Duration todoTtl,
+            @Value("${todo.second-level-cache.query-results.maximum-size:1000}") long queryResultsMaximumSize,
+            @Value("${todo.second-level-cache.query-results.ttl:PT1M}") Duration queryResultsTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("todo-second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        cacheManager.createCache(TODO_REGION, region(OptionalLong.of(todoMaximumSize), todoTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(OptionalLong.of(queryResultsMaximumSize), queryResultsTtl));
+        // Holds one timestamp per table and must outlive every cached query result, so it is
+        // neither bounded nor expired
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                region(OptionalLong.empty(), null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(OptionalLong maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate caches immutable entry snapshots, so copying them on every access is wasted work
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setMaximumSize(maximumSize);
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
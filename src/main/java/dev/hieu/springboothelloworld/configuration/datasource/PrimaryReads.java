@@ -0,0 +1,48 @@
+package dev.hieu.springboothelloworld.configuration.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the reads of the current thread to the primary for the duration of a call, whatever the
+ * transaction's read-only flag.
+ * <p>
+ * For reads whose result outlives the request or is trusted over state kept in memory: cache
+ * loads (a lagging replica would refill an entry a write just evicted with the old value, served
+ * to every client until it expires) and maintenance jobs that compare or rebuild in-memory state
+ * (a lagging replica would make them "correct" current state back to an old one).
+ * <p>
+ * {@link ReadWriteRoutingDataSource} decides when a transaction fetches its connection, at its
+ * first statement, so the call must contain that statement; a transaction that already read
+ * from a replica stays on it. Without replicas this has no effect.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> read) {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PINNED.set(previous);
+        }
+    }
+
+    public static void run(Runnable read) {
+        call(() -> {
+            read.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return whether the current thread is inside {@link #call} or {@link #run}
+     */
+    public static boolean isPinned() {
+        return PINNED.get();
+    }
+}
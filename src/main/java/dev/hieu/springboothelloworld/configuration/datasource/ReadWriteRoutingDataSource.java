@@ -0,0 +1,68 @@
+package dev.hieu.springboothelloworld.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * The routing decision needs the transaction's read-only flag, which is only known once the
+ * transaction has begun; wrap this data source in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so connections are
+ * fetched at the first statement. Write transactions open the current client's
+ * {@link ReadYourWritesWindow}, during which its read-only transactions stay on the primary.
+ * Reads inside {@link PrimaryReads} (cache loads, maintenance jobs) always use the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<HikariDataSource> replicas;
+    private final ReplicaSelection selection;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                      ReplicaSelection selection, ReadYourWritesWindow readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.readYourWritesWindow = readYourWritesWindow;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Close the replica pools, which are owned by this data source; the primary is a bean of its own.
+     */
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesWindow.recordWrite();
+            return PRIMARY;
+        }
+        if (replicas.isEmpty() || PrimaryReads.isPinned() || readYourWritesWindow.isOpen()) {
+            return PRIMARY;
+        }
+        return selection.select(replicas, counter);
+    }
+}
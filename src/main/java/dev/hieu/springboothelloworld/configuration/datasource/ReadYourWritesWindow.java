@@ -0,0 +1,53 @@
+package dev.hieu.springboothelloworld.configuration.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Remembers which clients wrote recently, so that their reads go to the primary until the
+ * replicas have had time to catch up with their writes.
+ * <p>
+ * The client of the current thread is bound by {@link ReadYourWritesFilter}; threads without a
+ * client (scheduled jobs, startup) never get a window.
+ */
+public class ReadYourWritesWindow {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(Duration window, long maximumClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void bind(String client) {
+        CURRENT_CLIENT.set(client);
+    }
+
+    public void unbind() {
+        CURRENT_CLIENT.remove();
+    }
+
+    /**
+     * Open, or extend, the window of the current client.
+     */
+    public void recordWrite() {
+        String client = CURRENT_CLIENT.get();
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @return whether the current client wrote within the window
+     */
+    public boolean isOpen() {
+        String client = CURRENT_CLIENT.get();
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+}
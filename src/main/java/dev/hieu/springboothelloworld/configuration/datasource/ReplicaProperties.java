@@ -0,0 +1,42 @@
+package dev.hieu.springboothelloworld.configuration.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas under {@code todo.datasource}. The primary keeps using {@code spring.datasource}.
+ */
+@Data
+@ConfigurationProperties(prefix = "todo.datasource")
+public class ReplicaProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private ReplicaSelection replicaSelection = ReplicaSelection.ROUND_ROBIN;
+
+    /**
+     * How long a client's reads stay on the primary after it wrote; should exceed the replication lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Clients whose window is tracked at once; the least recently writing ones are forgotten first.
+     */
+    private long readYourWritesMaximumClients = 10_000;
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,53 @@
+package dev.hieu.springboothelloworld.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * How {@link ReadWriteRoutingDataSource} picks the replica for a read-only transaction.
+ */
+public enum ReplicaSelection {
+
+    /**
+     * Take the replicas in turn.
+     */
+    ROUND_ROBIN {
+        @Override
+        int select(List<HikariDataSource> replicas, AtomicInteger counter) {
+            return Math.floorMod(counter.getAndIncrement(), replicas.size());
+        }
+    },
+
+    /**
+     * Take the replica whose pool has the fewest connections in use, the first one on ties.
+     */
+    LEAST_CONNECTIONS {
+        @Override
+        int select(List<HikariDataSource> replicas, AtomicInteger counter) {
+            int best = 0;
+            int bestActive = Integer.MAX_VALUE;
+            for (int i = 0; i < replicas.size(); i++) {
+                int active = activeConnections(replicas.get(i));
+                if (active < bestActive) {
+                    best = i;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+    };
+
+    /**
+     * @return the index of the replica to use
+     */
+    abstract int select(List<HikariDataSource> replicas, AtomicInteger counter);
+
+    private static int activeConnections(HikariDataSource replica) {
+        HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+        // The pool starts with the first connection; until then nothing is in use
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+}
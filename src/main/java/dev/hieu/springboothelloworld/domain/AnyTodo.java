@@ -0,0 +1,48 @@
+package dev.hieu.springboothelloworld.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of every todo, active or archived: {@code todo UNION ALL todo_archive}. An id is
+ * only ever in one of the two tables. Queried for {@code includeArchived} reads only; filters are
+ * pushed down into both branches of the union by the database.
+ */
+@Entity
+@Immutable
+@Subselect("SELECT id, todo, description, status, created_at, last_updated_at, due_at, version FROM todo " +
+           "UNION ALL " +
+           "SELECT id, todo, description, status, created_at, last_updated_at, due_at, version FROM todo_archive")
+@Synchronize({"todo", "todo_archive"})
+@Getter
+@NoArgsConstructor
+public class AnyTodo {
+    
+    @Id
+    private UUID id;
+    
+    private String todo;
+    
+    private String description;
+    
+    @Enumerated(EnumType.STRING)
+    private Status status;
+    
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime lastUpdatedAt;
+    
+    private LocalDateTime dueAt;
+    
+    private Long version;
+}
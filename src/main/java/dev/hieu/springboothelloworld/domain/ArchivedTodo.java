@@ -0,0 +1,52 @@
+package dev.hieu.springboothelloworld.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A todo moved out of the {@code todo} table by {@code TodoArchiver} once it had been in a
+ * terminal status long enough. Rows keep their id, timestamps and version unchanged.
+ */
+@Entity
+@Table(name = "todo_archive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTodo {
+    
+    @Id
+    private UUID id;
+    
+    @Column(nullable = false)
+    private String todo;
+    
+    private String description;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime lastUpdatedAt;
+    
+    private LocalDateTime dueAt;
+    
+    @Column(nullable = false)
+    private Long version;
+    
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
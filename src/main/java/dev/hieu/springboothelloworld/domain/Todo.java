@@ -1,5 +1,6 @@
 package dev.hieu.springboothelloworld.domain;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,16 +10,20 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "todo")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +31,7 @@ public class Todo {
     
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @UuidV7
     private UUID id;
     
     @Column(nullable = false)
@@ -46,6 +51,14 @@ public class Todo {
     
     private LocalDateTime dueAt;
     
+    /**
+     * Incremented by every write, including the modifying statements in {@code TodoRepository};
+     * exposed to clients as the ETag.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @PrePersist
     protected void onCreate() {
         LocalDateTime now = LocalDateTime.now();
@@ -0,0 +1,55 @@
+package dev.hieu.springboothelloworld.domain;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp, then a 12-bit counter, then 62
+ * random bits. Byte-wise, which is how PostgreSQL, MySQL's {@code BINARY(16)} and H2 compare
+ * UUIDs, the ids increase with creation time, so inserts append to the right edge of the primary
+ * key index instead of splitting pages all over it.
+ * <p>
+ * Ids generated in this JVM are strictly increasing: the counter starts at a random value in its
+ * lower half every millisecond and is incremented within it; should it run out, or the clock step
+ * back, the timestamp is carried forward instead.
+ */
+public class UuidV7Generator implements IdentifierGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private static final Object LOCK = new Object();
+    private static long lastMillis = -1;
+    private static int counter;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    public static UUID next() {
+        long millis;
+        int sequence;
+        synchronized (LOCK) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                counter = RANDOM.nextInt(1 << (COUNTER_BITS - 1));
+            } else if (counter < MAX_COUNTER) {
+                counter++;
+            } else {
+                lastMillis++;
+                counter = RANDOM.nextInt(1 << (COUNTER_BITS - 1));
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+        long mostSignificantBits = (millis << 16) | 0x7000L | sequence;
+        long leastSignificantBits = (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
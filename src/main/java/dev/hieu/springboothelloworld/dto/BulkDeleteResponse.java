@@ -0,0 +1,22 @@
+package dev.hieu.springboothelloworld.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk delete")
+public class BulkDeleteResponse {
+    
+    @Schema(description = "Number of todos deleted", example = "250")
+    private int deleted;
+    
+    @Schema(description = "Requested ids that matched no todo; always empty when deleting by filter", type = "array")
+    private List<UUID> notFound;
+}
@@ -0,0 +1,21 @@
+package dev.hieu.springboothelloworld.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Why one item of a bulk request was rejected")
+public class BulkItemError {
+    
+    @Schema(description = "Position of the rejected item in the request array (0-indexed)", example = "3")
+    private int index;
+    
+    @Schema(description = "Validation messages for the item", example = "[\"todo: Todo title is required\"]")
+    private List<String> errors;
+}
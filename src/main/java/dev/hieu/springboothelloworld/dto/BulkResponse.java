@@ -0,0 +1,31 @@
+package dev.hieu.springboothelloworld.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk request: the items applied and the ones rejected")
+public class BulkResponse<T> {
+    
+    @Schema(description = "Items applied, in request order", type = "array")
+    private List<T> content;
+    
+    @Schema(description = "Items rejected, with their position in the request", type = "array")
+    private List<BulkItemError> errors;
+    
+    @Schema(description = "Number of items applied")
+    public int getSucceeded() {
+        return content != null ? content.size() : 0;
+    }
+    
+    @Schema(description = "Number of items rejected")
+    public int getFailed() {
+        return errors != null ? errors.size() : 0;
+    }
+}
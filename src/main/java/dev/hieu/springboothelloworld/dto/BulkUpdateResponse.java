@@ -0,0 +1,16 @@
+package dev.hieu.springboothelloworld.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a set-based update")
+public class BulkUpdateResponse {
+    
+    @Schema(description = "Number of todos changed; todos already in the target state are not counted", example = "120")
+    private int updated;
+}
@@ -0,0 +1,27 @@
+package dev.hieu.springboothelloworld.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cursor (keyset) paginated response wrapper")
+public class CursorPageResponse<T> {
+    
+    @Schema(description = "List of items in the current page", type = "array")
+    private List<T> content;
+    
+    @Schema(description = "Requested page size")
+    private int size;
+    
+    @Schema(description = "Opaque cursor to pass as 'cursor' to fetch the next page; null on the last page")
+    private String nextCursor;
+    
+    @Schema(description = "Whether there is a next page")
+    private boolean hasNext;
+}
@@ -1,12 +1,15 @@
 package dev.hieu.springboothelloworld.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.hieu.springboothelloworld.domain.Status;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -23,11 +26,11 @@ public class PageResponse<T> {
     @Schema(description = "Page size")
     private int size;
     
-    @Schema(description = "Total number of elements")
+    @Schema(description = "Total number of elements, or -1 when totalElementsAccuracy is UNKNOWN")
     @JsonProperty("totalElements")
     private long totalElements;
     
-    @Schema(description = "Total number of pages")
+    @Schema(description = "Total number of pages, or -1 when totalElementsAccuracy is UNKNOWN")
     @JsonProperty("totalPages")
     private int totalPages;
     
@@ -36,5 +39,31 @@ public class PageResponse<T> {
     
     @Schema(description = "Whether this is the last page")
     private boolean last;
+    
+    @Schema(description = "Whether totalElements is an exact count, a planner estimate, or unknown")
+    private TotalElementsAccuracy totalElementsAccuracy = TotalElementsAccuracy.EXACT;
+    
+    @Schema(description = "Number of todos matching the keyword for each status, regardless of the status filter; only present when facets were requested")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Status, Long> facets;
+    
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages,
+                        boolean first, boolean last) {
+        this(content, page, size, totalElements, totalPages, first, last, TotalElementsAccuracy.EXACT);
+    }
+    
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages,
+                        boolean first, boolean last, TotalElementsAccuracy totalElementsAccuracy) {
+        this(content, page, size, totalElements, totalPages, first, last, totalElementsAccuracy, null);
+    }
+    
+    /**
+     * Copy of this page carrying {@code facets}; responses may be shared through the search cache,
+     * so they are not modified in place.
+     */
+    public PageResponse<T> withFacets(Map<Status, Long> facets) {
+        return new PageResponse<>(content, page, size, totalElements, totalPages, first, last,
+                totalElementsAccuracy, facets);
+    }
 }
 
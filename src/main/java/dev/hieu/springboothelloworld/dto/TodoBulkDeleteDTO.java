@@ -0,0 +1,26 @@
+package dev.hieu.springboothelloworld.dto;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Selects the todos to delete: either the todos listed in 'ids' or the ones matching 'keyword' and/or 'status'")
+public class TodoBulkDeleteDTO {
+    
+    @Schema(description = "Ids of the todos to delete", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+    private List<UUID> ids;
+    
+    @Schema(description = "Delete the todos whose title or description contains this keyword", example = "obsolete")
+    private String keyword;
+    
+    @Schema(description = "Delete the todos in this status", example = "CANCELLED")
+    private Status status;
+}
@@ -43,5 +43,15 @@ public class TodoDTO {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     @Schema(description = "Due date and time for the todo", example = "2024-12-20T17:00:00")
     private LocalDateTime dueAt;
+    
+    @Schema(description = "Version of the todo, incremented by every change; also sent as the ETag", example = "3")
+    private Long version;
+    
+    /**
+     * The version a modifying statement's {@code version = version + 1} leaves a todo at.
+     */
+    public static Long nextVersion(Long version) {
+        return version != null ? version + 1 : null;
+    }
 }
 
@@ -0,0 +1,31 @@
+package dev.hieu.springboothelloworld.dto;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Moves many todos to one status: either the todos listed in 'ids' or the ones matching 'keyword' and/or 'currentStatus'")
+public class TodoStatusUpdateDTO {
+    
+    @Schema(description = "Ids of the todos to update", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+    private List<UUID> ids;
+    
+    @Schema(description = "Update the todos whose title or description contains this keyword", example = "sprint 42")
+    private String keyword;
+    
+    @Schema(description = "Update the todos currently in this status", example = "IN_PROGRESS")
+    private Status currentStatus;
+    
+    @NotNull(message = "Target status is required")
+    @Schema(description = "Status to move the todos to", example = "COMPLETED", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Status status;
+}
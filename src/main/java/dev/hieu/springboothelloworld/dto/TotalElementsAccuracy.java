@@ -0,0 +1,13 @@
+package dev.hieu.springboothelloworld.dto;
+
+/**
+ * How {@link PageResponse#getTotalElements()} was obtained.
+ */
+public enum TotalElementsAccuracy {
+    /** Counted with {@code SELECT COUNT(*)}, or known exactly because the last page was reached. */
+    EXACT,
+    /** Taken from database planner statistics; may be off, especially right after bulk changes. */
+    ESTIMATED,
+    /** Not counted; {@code totalElements} and {@code totalPages} are {@code -1}. */
+    UNKNOWN
+}
@@ -0,0 +1,11 @@
+package dev.hieu.springboothelloworld.exception;
+
+/**
+ * Signals a 409: the request is valid but cannot be applied to the resource in its current state.
+ */
+public class ConflictException extends RuntimeException {
+    
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package dev.hieu.springboothelloworld.exception;
+
+/**
+ * Signals a 412: a conditional write ({@code If-Match}) found the resource at another version.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+    
+    public PreconditionFailedException(String resourceName, Object id, Object expectedVersion) {
+        super(String.format("%s '%s' is no longer at version %s", resourceName, id, expectedVersion));
+    }
+}
@@ -1,13 +1,16 @@
 package dev.hieu.springboothelloworld.exception;
 
+/**
+ * Signals a 404. Thrown for every lookup of an unknown id and only ever reported by its message,
+ * so it skips capturing a stack trace.
+ */
 public class ResourceNotFoundException extends RuntimeException {
     
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
     
     public ResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
-        super(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue));
+        this(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue));
     }
 }
-
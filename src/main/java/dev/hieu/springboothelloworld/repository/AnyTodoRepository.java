@@ -0,0 +1,33 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.AnyTodo;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static dev.hieu.springboothelloworld.repository.TodoRepository.KEYWORD_AND_STATUS_FILTER;
+import static dev.hieu.springboothelloworld.repository.TodoRepository.TODO_DTO;
+
+/**
+ * The listing and search queries of {@link TodoRepository} over active and archived todos together.
+ */
+public interface AnyTodoRepository extends Repository<AnyTodo, UUID> {
+    
+    @Query("SELECT " + TODO_DTO + " FROM AnyTodo t WHERE t.id = :id")
+    Optional<TodoDTO> findDtoById(@Param("id") UUID id);
+    
+    @Query(value = "SELECT " + TODO_DTO + " FROM AnyTodo t",
+           countQuery = "SELECT COUNT(t) FROM AnyTodo t")
+    Page<TodoDTO> findAllDtos(Pageable pageable);
+    
+    @Query(value = "SELECT " + TODO_DTO + " FROM AnyTodo t WHERE " + KEYWORD_AND_STATUS_FILTER,
+           countQuery = "SELECT COUNT(t) FROM AnyTodo t WHERE " + KEYWORD_AND_STATUS_FILTER)
+    Page<TodoDTO> searchTodos(@Param("keyword") String keyword, @Param("status") Status status, Pageable pageable);
+}
@@ -0,0 +1,53 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static dev.hieu.springboothelloworld.repository.TodoRepository.TODO_DTO;
+
+/**
+ * PostgreSQL keyword search. Hibernate renders HQL {@code ilike} as PostgreSQL's {@code ILIKE} on
+ * the raw columns, which the {@code gin_trgm_ops} indexes created in {@code db/migration/postgresql}
+ * can serve, unlike the portable {@code LOWER(...) LIKE} JPQL in {@link TodoRepository}.
+ * <p>
+ * Only used by the {@code postgres} profile. Other dialects render {@code ilike} through
+ * {@code lower()}, so the queries still validate on startup everywhere.
+ */
+public interface PostgresTodoSearchRepository extends Repository<Todo, UUID> {
+
+    String PATTERN_AND_STATUS_FILTER = "(t.todo ILIKE :pattern OR t.description ILIKE :pattern) " +
+            "AND (:status IS NULL OR t.status = :status)";
+
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE " + PATTERN_AND_STATUS_FILTER)
+    List<TodoDTO> searchTodos(@Param("pattern") String pattern, @Param("status") Status status);
+
+    @Query(value = "SELECT " + TODO_DTO + " FROM Todo t WHERE " + PATTERN_AND_STATUS_FILTER,
+           countQuery = "SELECT COUNT(t) FROM Todo t WHERE " + PATTERN_AND_STATUS_FILTER)
+    Page<TodoDTO> searchTodos(@Param("pattern") String pattern, @Param("status") Status status, Pageable pageable);
+
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE " + PATTERN_AND_STATUS_FILTER)
+    Slice<TodoDTO> searchTodosSlice(@Param("pattern") String pattern, @Param("status") Status status, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE " + PATTERN_AND_STATUS_FILTER)
+    Stream<TodoDTO> streamTodos(@Param("pattern") String pattern, @Param("status") Status status);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Todo t " +
+           "WHERE t.todo ILIKE :pattern OR t.description ILIKE :pattern GROUP BY t.status")
+    List<StatusCount> countByStatus(@Param("pattern") String pattern);
+}
@@ -0,0 +1,33 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.Status;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projection of a {@code GROUP BY status} count.
+ */
+public interface StatusCount {
+
+    Status getStatus();
+
+    long getCount();
+
+    /**
+     * Count per status, with {@code 0} for statuses absent from {@code rows}.
+     */
+    static Map<Status, Long> toMap(List<? extends StatusCount> rows) {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (StatusCount row : rows) {
+            if (row.getStatus() != null) {
+                counts.put(row.getStatus(), row.getCount());
+            }
+        }
+        return counts;
+    }
+}
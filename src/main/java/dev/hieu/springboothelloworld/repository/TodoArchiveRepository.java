@@ -0,0 +1,31 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.ArchivedTodo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface TodoArchiveRepository extends JpaRepository<ArchivedTodo, UUID> {
+    
+    /**
+     * Copy todos into the archive in one {@code INSERT ... SELECT}, without loading them. The
+     * caller deletes them from {@code todo} in the same transaction.
+     *
+     * @return the number of rows copied
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedTodo (id, todo, description, status, createdAt, lastUpdatedAt, dueAt, version, archivedAt) " +
+           "SELECT t.id, t.todo, t.description, t.status, t.createdAt, t.lastUpdatedAt, t.dueAt, t.version, LOCAL DATETIME " +
+           "FROM Todo t WHERE t.id IN :ids")
+    int copyFromTodos(@Param("ids") Collection<UUID> ids);
+    
+    @Modifying
+    @Query("DELETE FROM ArchivedTodo a WHERE a.id = :id")
+    int deleteArchived(@Param("id") UUID id);
+}
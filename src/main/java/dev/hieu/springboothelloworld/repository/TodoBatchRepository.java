@@ -0,0 +1,18 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.Todo;
+
+import java.util.List;
+
+/**
+ * Bulk writes that go through Hibernate's JDBC batching instead of one round trip per row.
+ */
+public interface TodoBatchRepository {
+
+    /**
+     * Persist new todos in chunks of {@code todo.bulk.batch-size}, flushing each chunk as one
+     * JDBC batch and clearing the persistence context afterwards so it does not grow with the
+     * input. The returned todos carry their generated ids and timestamps but are detached.
+     */
+    List<Todo> insertAll(List<Todo> todos);
+}
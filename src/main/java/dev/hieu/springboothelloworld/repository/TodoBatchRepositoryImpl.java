@@ -0,0 +1,35 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.List;
+
+/**
+ * Ids come from {@code @UuidV7} in memory, so Hibernate can group the inserts into
+ * batches; an identity column would force one statement per row.
+ */
+class TodoBatchRepositoryImpl implements TodoBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${todo.bulk.batch-size:50}")
+    private int batchSize;
+
+    @Override
+    public List<Todo> insertAll(List<Todo> todos) {
+        for (int i = 0; i < todos.size(); i++) {
+            entityManager.persist(todos.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return todos;
+    }
+}
@@ -2,33 +2,203 @@ package dev.hieu.springboothelloworld.repository;
 
 import dev.hieu.springboothelloworld.domain.Status;
 import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, UUID> {
+public interface TodoRepository extends JpaRepository<Todo, UUID>, JpaSpecificationExecutor<Todo>, TodoBatchRepository,
+        TodoScrollRepository {
+    
+    /**
+     * JPQL constructor expression building a {@link TodoDTO} straight from the selected columns.
+     * Queries using it return no managed entities: nothing is hydrated, snapshotted or dirty-checked.
+     */
+    String TODO_DTO = "new dev.hieu.springboothelloworld.dto.TodoDTO(" +
+            "t.id, t.todo, t.description, t.status, t.createdAt, t.lastUpdatedAt, t.dueAt, t.version)";
+    
+    String KEYWORD_AND_STATUS_FILTER = "(:keyword IS NULL OR LOWER(t.todo) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:status IS NULL OR t.status = :status)";
+    
+    /**
+     * Largest id collection bound to a single {@code IN} clause; bulk operations split larger
+     * selections into chunks of this size.
+     */
+    int MAX_IN_PARAMETERS = 1000;
     
     List<Todo> findByStatus(Status status);
     
     Page<Todo> findByStatus(Status status, Pageable pageable);
     
-    @Query("SELECT t FROM Todo t WHERE " +
-           "(:keyword IS NULL OR LOWER(t.todo) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-           "(:status IS NULL OR t.status = :status)")
-    List<Todo> searchTodos(@Param("keyword") String keyword, @Param("status") Status status);
-    
-    @Query("SELECT t FROM Todo t WHERE " +
-           "(:keyword IS NULL OR LOWER(t.todo) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-           "(:status IS NULL OR t.status = :status)")
-    Page<Todo> searchTodos(@Param("keyword") String keyword, @Param("status") Status status, Pageable pageable);
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE t.id = :id")
+    Optional<TodoDTO> findDtoById(@Param("id") UUID id);
+    
+    @Query("SELECT " + TODO_DTO + " FROM Todo t")
+    List<TodoDTO> findAllDtos();
+    
+    @Query(value = "SELECT " + TODO_DTO + " FROM Todo t",
+           countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoDTO> findAllDtos(Pageable pageable);
+    
+    /**
+     * The {@code Slice} variants fetch {@code size + 1} rows to tell whether a next page exists
+     * and never run a count query.
+     */
+    @Query("SELECT " + TODO_DTO + " FROM Todo t")
+    Slice<TodoDTO> findSliceBy(Pageable pageable);
+    
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE t.status = :status")
+    Slice<TodoDTO> findSliceByStatus(@Param("status") Status status, Pageable pageable);
+    
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE " + KEYWORD_AND_STATUS_FILTER)
+    List<TodoDTO> searchTodos(@Param("keyword") String keyword, @Param("status") Status status);
+    
+    @Query(value = "SELECT " + TODO_DTO + " FROM Todo t WHERE " + KEYWORD_AND_STATUS_FILTER,
+           countQuery = "SELECT COUNT(t) FROM Todo t WHERE " + KEYWORD_AND_STATUS_FILTER)
+    Page<TodoDTO> searchTodos(@Param("keyword") String keyword, @Param("status") Status status, Pageable pageable);
+    
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE " + KEYWORD_AND_STATUS_FILTER)
+    Slice<TodoDTO> searchTodosSlice(@Param("keyword") String keyword, @Param("status") Status status, Pageable pageable);
+    
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE t.id IN :ids AND (:status IS NULL OR t.status = :status)")
+    List<TodoDTO> searchTodosByIds(@Param("ids") Collection<UUID> ids, @Param("status") Status status);
+    
+    @Query(value = "SELECT " + TODO_DTO + " FROM Todo t WHERE t.id IN :ids AND (:status IS NULL OR t.status = :status)",
+           countQuery = "SELECT COUNT(t) FROM Todo t WHERE t.id IN :ids AND (:status IS NULL OR t.status = :status)")
+    Page<TodoDTO> searchTodosByIds(@Param("ids") Collection<UUID> ids, @Param("status") Status status, Pageable pageable);
+    
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE t.id IN :ids AND (:status IS NULL OR t.status = :status)")
+    Slice<TodoDTO> searchTodosByIdsSlice(@Param("ids") Collection<UUID> ids, @Param("status") Status status, Pageable pageable);
+    
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Todo t GROUP BY t.status")
+    List<StatusCount> countByStatus();
+    
+    /**
+     * Per-status counts of the todos matching {@code keyword}, in one grouped query.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Todo t WHERE " +
+           "LOWER(t.todo) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "GROUP BY t.status")
+    List<StatusCount> countByStatusMatching(@Param("keyword") String keyword);
+    
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Todo t WHERE t.id IN :ids GROUP BY t.status")
+    List<StatusCount> countByStatusForIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Stream every todo as a DTO with a JDBC fetch size, for rebuilding and checking in-memory
+     * indexes; no entity is kept in the persistence context, so memory does not grow with the table.
+     * Must be called inside a transaction and the stream must be closed by the caller.
+     * On MySQL the fetch size only takes effect with {@code useCursorFetch=true} on the JDBC URL.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT " + TODO_DTO + " FROM Todo t")
+    Stream<TodoDTO> streamAll();
+    
+    /**
+     * Stream the todos matching {@code keyword} and {@code status} as DTOs with a JDBC fetch size,
+     * for exports. Same transaction and closing requirements as {@link #streamAll()}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT " + TODO_DTO + " FROM Todo t WHERE " + KEYWORD_AND_STATUS_FILTER)
+    Stream<TodoDTO> streamTodos(@Param("keyword") String keyword, @Param("status") Status status);
+    
+    /**
+     * Todos in one of {@code statuses} last updated before {@code cutoff}, oldest first, for
+     * archiving. The rows stay locked until the transaction ends, so they cannot change between
+     * being copied to the archive and being deleted.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Todo t WHERE t.status IN :statuses AND t.lastUpdatedAt < :cutoff ORDER BY t.lastUpdatedAt")
+    List<Todo> findArchivable(@Param("statuses") Collection<Status> statuses, @Param("cutoff") LocalDateTime cutoff,
+                              Pageable pageable);
+    
+    /**
+     * The todos with the given ids, locked until the transaction ends so a bulk operation writes
+     * and reports exactly the rows it read.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Todo t WHERE t.id IN :ids")
+    List<Todo> lockByIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * The next todos matching {@code keyword} and {@code status} after {@code afterId} in id
+     * order, locked like {@link #lockByIds(Collection)}, for walking a bulk selection in chunks.
+     * A row changed by another transaction while waiting for its lock is returned only if it
+     * still matches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Todo t WHERE " + KEYWORD_AND_STATUS_FILTER + " AND t.id > :afterId ORDER BY t.id")
+    List<Todo> lockMatching(@Param("keyword") String keyword, @Param("status") Status status,
+                            @Param("afterId") UUID afterId, Pageable pageable);
+    
+    /**
+     * Set-based status change. Bypasses {@code @PreUpdate}, so {@code lastUpdatedAt} is passed in.
+     *
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.status = :status, t.lastUpdatedAt = :lastUpdatedAt, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") Status status,
+                     @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt);
+    
+    /**
+     * Apply the non-null arguments to one todo in a single statement; {@code null} keeps the
+     * current value. Bypasses {@code @PreUpdate}, so {@code lastUpdatedAt} is passed in.
+     *
+     * @param version the version the todo must still be at, or {@code null} to update any version
+     * @return 1 when the todo was updated, 0 when it does not exist or is at another version
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.todo = COALESCE(:todo, t.todo), " +
+           "t.description = COALESCE(:description, t.description), " +
+           "t.status = COALESCE(:status, t.status), " +
+           "t.dueAt = COALESCE(:dueAt, t.dueAt), " +
+           "t.lastUpdatedAt = :lastUpdatedAt, " +
+           "t.version = t.version + 1 " +
+           "WHERE t.id = :id AND (:version IS NULL OR t.version = :version)")
+    int updateFields(@Param("id") UUID id, @Param("todo") String todo, @Param("description") String description,
+                     @Param("status") Status status, @Param("dueAt") LocalDateTime dueAt,
+                     @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt, @Param("version") Long version);
+    
+    /**
+     * Delete one todo if it is still at {@code version}.
+     *
+     * @param version the version the todo must still be at, or {@code null} to delete any version
+     * @return 1 when the todo was deleted, 0 when it does not exist or is at another version
+     */
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id = :id AND (:version IS NULL OR t.version = :version)")
+    int deleteAtVersion(@Param("id") UUID id, @Param("version") Long version);
+    
+    /**
+     * Set-based delete in one statement, like {@code deleteAllByIdInBatch} but reporting the count.
+     *
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
 }
-
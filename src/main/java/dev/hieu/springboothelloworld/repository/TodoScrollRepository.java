@@ -0,0 +1,26 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Keyset scrolling that projects straight to {@link TodoDTO}, like the slice and page queries of
+ * {@link TodoRepository}, instead of loading {@link Todo} entities through
+ * {@code findBy(Specification, ...)} and mapping them afterwards.
+ */
+public interface TodoScrollRepository {
+
+    /**
+     * The todos matching {@code specification} that follow {@code position} in {@code keysetSort}
+     * order, at most {@code limit} of them. Each position of the window holds the sort key values
+     * of its row, for seeking the next window.
+     *
+     * @param keysetSort a total order over non-null properties of {@link TodoDTO}
+     */
+    Window<TodoDTO> scrollDtos(Specification<Todo> specification, Sort keysetSort, KeysetScrollPosition position,
+                               int limit);
+}
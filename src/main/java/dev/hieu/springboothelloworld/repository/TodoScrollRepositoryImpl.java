@@ -0,0 +1,93 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the same seek predicate as Spring Data's keyset scrolling, {@code (k1 > v1) OR (k1 = v1
+ * AND k2 > v2) OR ...} with {@code <} for descending keys, and selects the columns of
+ * {@link TodoRepository#TODO_DTO} with a constructor expression.
+ */
+class TodoScrollRepositoryImpl implements TodoScrollRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Window<TodoDTO> scrollDtos(Specification<Todo> specification, Sort keysetSort,
+                                      KeysetScrollPosition position, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TodoDTO> query = cb.createQuery(TodoDTO.class);
+        Root<Todo> root = query.from(Todo.class);
+        query.select(cb.construct(TodoDTO.class, root.get("id"), root.get("todo"), root.get("description"),
+                root.get("status"), root.get("createdAt"), root.get("lastUpdatedAt"), root.get("dueAt"),
+                root.get("version")));
+
+        List<Predicate> where = new ArrayList<>();
+        Predicate filter = specification.toPredicate(root, query, cb);
+        if (filter != null) {
+            where.add(filter);
+        }
+        if (!position.isInitial()) {
+            where.add(seek(cb, root, keysetSort, position.getKeys()));
+        }
+        query.where(where.toArray(Predicate[]::new));
+
+        List<Order> orderBy = new ArrayList<>();
+        for (Sort.Order order : keysetSort) {
+            Expression<?> key = root.get(order.getProperty());
+            orderBy.add(order.isAscending() ? cb.asc(key) : cb.desc(key));
+        }
+        query.orderBy(orderBy);
+
+        // One extra row tells whether another window follows
+        List<TodoDTO> rows = entityManager.createQuery(query).setMaxResults(limit + 1).getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<TodoDTO> content = hasNext ? rows.subList(0, limit) : rows;
+        return Window.from(content, index -> ScrollPosition.forward(keys(content.get(index), keysetSort)), hasNext);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate seek(CriteriaBuilder cb, Root<Todo> root, Sort keysetSort, Map<String, ?> keys) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalSoFar = new ArrayList<>();
+        for (Sort.Order order : keysetSort) {
+            Expression<Comparable> key = root.get(order.getProperty());
+            Comparable value = (Comparable) keys.get(order.getProperty());
+            List<Predicate> alternative = new ArrayList<>(equalSoFar);
+            alternative.add(order.isAscending() ? cb.greaterThan(key, value) : cb.lessThan(key, value));
+            alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+            equalSoFar.add(cb.equal(key, value));
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    private static Map<String, Object> keys(TodoDTO row, Sort keysetSort) {
+        BeanWrapper properties = new BeanWrapperImpl(row);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : keysetSort) {
+            keys.put(order.getProperty(), properties.getPropertyValue(order.getProperty()));
+        }
+        return keys;
+    }
+}
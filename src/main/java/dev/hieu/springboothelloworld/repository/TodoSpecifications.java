@@ -0,0 +1,53 @@
+package dev.hieu.springboothelloworld.repository;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Criteria building blocks mirroring the JPQL queries in {@link TodoRepository}, for queries
+ * whose shape is only known at runtime (keyset scrolling).
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+    }
+
+    public static Specification<Todo> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<Todo> none() {
+        return (root, query, cb) -> cb.disjunction();
+    }
+
+    /**
+     * Same predicate as {@link TodoRepository#searchTodos}: case-insensitive substring match on title or description.
+     */
+    public static Specification<Todo> keywordContains(String keyword) {
+        if (keyword == null) {
+            return all();
+        }
+        return (root, query, cb) -> {
+            String pattern = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("todo")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern));
+        };
+    }
+
+    public static Specification<Todo> hasStatus(Status status) {
+        if (status == null) {
+            return all();
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Todo> idIn(Collection<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+}
@@ -1,13 +1,21 @@
 package dev.hieu.springboothelloworld.service;
 
 import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.BulkDeleteResponse;
+import dev.hieu.springboothelloworld.dto.BulkResponse;
+import dev.hieu.springboothelloworld.dto.CursorPageResponse;
 import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoBulkDeleteDTO;
 import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
 import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoStatusUpdateDTO;
 import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface TodoService {
@@ -16,16 +24,116 @@ public interface TodoService {
     
     PageResponse<TodoDTO> getAllTodos(Pageable pageable);
     
+    /**
+     * Offset paginated listing whose total is obtained according to {@code countMode};
+     * {@link CountMode#EXACT} behaves like {@link #getAllTodos(Pageable)}.
+     */
+    PageResponse<TodoDTO> getAllTodos(Pageable pageable, CountMode countMode);
+    
+    /**
+     * Keyset (cursor) paginated listing. {@code cursor} is {@code null} for the first page and
+     * otherwise the {@code nextCursor} of the previous response, issued for the same sort.
+     */
+    CursorPageResponse<TodoDTO> getAllTodos(String cursor, int size, Sort sort);
+    
     List<TodoDTO> searchTodos(String keyword, Status status);
     
     PageResponse<TodoDTO> searchTodos(String keyword, Status status, Pageable pageable);
     
+    PageResponse<TodoDTO> searchTodos(String keyword, Status status, Pageable pageable, CountMode countMode);
+    
+    CursorPageResponse<TodoDTO> searchTodos(String keyword, Status status, String cursor, int size, Sort sort);
+    
+    /**
+     * Like {@link #getAllTodos(Pageable)}, over active and archived todos together. Always runs a
+     * count query and is never cached.
+     */
+    PageResponse<TodoDTO> getAllTodosIncludingArchived(Pageable pageable);
+    
+    /**
+     * Like {@link #searchTodos(String, Status, Pageable)}, over active and archived todos together.
+     * Always runs a count query and is never cached.
+     */
+    PageResponse<TodoDTO> searchTodosIncludingArchived(String keyword, Status status, Pageable pageable);
+    
+    /**
+     * Number of todos matching {@code keyword} (all todos when blank) for every status, i.e. the
+     * facet counts of {@link #searchTodos(String, Status, Pageable)} across its status filter.
+     */
+    Map<Status, Long> countTodosByStatus(String keyword);
+    
+    /**
+     * Typo-tolerant search: every word of {@code keyword} may be matched within a small edit
+     * distance. Results are ranked by distance (best first) instead of the pageable's sort.
+     */
+    PageResponse<TodoDTO> fuzzySearchTodos(String keyword, Status status, Pageable pageable);
+    
+    /**
+     * Relevance-ranked full-text search: every word of {@code keyword} must occur, after stemming,
+     * in the title or description. Results are ordered by BM25 score (best first) instead of the
+     * pageable's sort.
+     */
+    PageResponse<TodoDTO> rankedSearchTodos(String keyword, Status status, Pageable pageable);
+    
+    /**
+     * Up to {@code limit} distinct titles starting with {@code prefix}, ignoring case.
+     * Served from memory; never queries the database.
+     */
+    List<String> suggestTitles(String prefix, int limit);
+    
+    /**
+     * An active todo, or else an archived one.
+     */
     TodoDTO getTodoById(UUID id);
     
     TodoDTO createTodo(TodoCreateDTO todoCreateDTO);
     
+    /**
+     * Create the valid items of {@code todoCreateDTOs} in one transaction, inserted through JDBC
+     * batches. Items failing validation are reported by their index instead of rejecting the
+     * whole request.
+     */
+    BulkResponse<TodoDTO> createTodos(List<TodoCreateDTO> todoCreateDTOs);
+    
+    /**
+     * @throws dev.hieu.springboothelloworld.exception.ConflictException when the todo is archived
+     */
     TodoDTO updateTodo(UUID id, TodoUpdateDTO todoUpdateDTO);
     
+    /**
+     * Like {@link #updateTodo(UUID, TodoUpdateDTO)}, but only while the todo is still at
+     * {@code expectedVersion}; the check and the update are one statement.
+     *
+     * @throws dev.hieu.springboothelloworld.exception.PreconditionFailedException when the todo exists at another version
+     */
+    TodoDTO updateTodo(UUID id, TodoUpdateDTO todoUpdateDTO, Long expectedVersion);
+    
+    /**
+     * Move the todos listed in {@code statusUpdateDTO.ids}, or else those matching its keyword and
+     * current status, to its target status with set-based {@code UPDATE} statements. A filter
+     * selection is updated in chunks of {@link dev.hieu.springboothelloworld.repository.TodoRepository#MAX_IN_PARAMETERS}
+     * todos, each committed on its own.
+     *
+     * @return the number of todos changed; unknown ids and todos already in the target status
+     * are not counted
+     * @throws IllegalArgumentException when both or neither of ids and a filter are given
+     */
+    int updateTodoStatuses(TodoStatusUpdateDTO statusUpdateDTO);
+    
+    /**
+     * Delete an active todo, or else an archived one.
+     */
     void deleteTodo(UUID id);
+    
+    /**
+     * Delete the todos listed in {@code bulkDeleteDTO.ids}, or else those matching its keyword and
+     * status, with set-based {@code DELETE} statements. A filter selection is deleted in chunks
+     * like {@link #updateTodoStatuses(TodoStatusUpdateDTO)}.
+     *
+     * @return the number of todos deleted and the requested ids that matched none, including ids
+     * deleted by another transaction first
+     * @throws IllegalArgumentException when both or neither of ids and a filter are given
+     */
+    BulkDeleteResponse deleteTodos(TodoBulkDeleteDTO bulkDeleteDTO);
 }
 
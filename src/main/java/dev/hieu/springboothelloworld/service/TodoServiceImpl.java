@@ -1,21 +1,72 @@
 package dev.hieu.springboothelloworld.service;
 
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
 import dev.hieu.springboothelloworld.domain.Status;
 import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.BulkDeleteResponse;
+import dev.hieu.springboothelloworld.dto.BulkItemError;
+import dev.hieu.springboothelloworld.dto.BulkResponse;
+import dev.hieu.springboothelloworld.dto.CursorPageResponse;
 import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoBulkDeleteDTO;
 import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
 import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoStatusUpdateDTO;
 import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import dev.hieu.springboothelloworld.dto.TotalElementsAccuracy;
+import dev.hieu.springboothelloworld.exception.ConflictException;
+import dev.hieu.springboothelloworld.exception.PreconditionFailedException;
 import dev.hieu.springboothelloworld.exception.ResourceNotFoundException;
+import dev.hieu.springboothelloworld.repository.AnyTodoRepository;
+import dev.hieu.springboothelloworld.repository.TodoArchiveRepository;
 import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.repository.TodoSpecifications;
+import dev.hieu.springboothelloworld.service.cache.SingleFlight;
+import dev.hieu.springboothelloworld.service.cache.TodoByIdCache;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
+import dev.hieu.springboothelloworld.service.paging.KeysetCursors;
+import dev.hieu.springboothelloworld.service.paging.RowCountEstimator;
+import dev.hieu.springboothelloworld.service.search.FuzzyTermIndex;
+import dev.hieu.springboothelloworld.service.search.LuceneTodoIndex;
+import dev.hieu.springboothelloworld.service.search.TitleSuggestionIndex;
+import dev.hieu.springboothelloworld.service.search.TodoSearchCache;
+import dev.hieu.springboothelloworld.service.search.TodoSearchStrategy;
+import dev.hieu.springboothelloworld.service.stats.TodoStatusCounters;
+import dev.hieu.springboothelloworld.service.write.TodoWriteStrategy;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,89 +75,427 @@ import java.util.stream.Collectors;
 public class TodoServiceImpl implements TodoService {
     
     private final TodoRepository todoRepository;
+    private final AnyTodoRepository anyTodoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final TodoSearchStrategy searchStrategy;
+    private final TodoWriteStrategy writeStrategy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowCountEstimator rowCountEstimator;
+    private final TodoStatusCounters statusCounters;
+    private final TodoSearchCache searchCache;
+    private final TodoByIdCache todoByIdCache;
+    private final TitleSuggestionIndex titleSuggestionIndex;
+    private final FuzzyTermIndex fuzzyTermIndex;
+    private final LuceneTodoIndex luceneTodoIndex;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    
+    /**
+     * Lower bound for walking todos in id order: the nil UUID sorts first in every supported database.
+     */
+    private static final UUID BEFORE_FIRST_ID = new UUID(0L, 0L);
+    
+    private final SingleFlight<ReadKey, PageResponse<TodoDTO>> pageReads = new SingleFlight<>();
     
     @Override
     @Transactional(readOnly = true)
     public List<TodoDTO> getAllTodos() {
-        return todoRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return todoRepository.findAllDtos();
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<TodoDTO> getAllTodos(Pageable pageable) {
-        Page<Todo> page = todoRepository.findAll(pageable);
+        return pageReads.execute(readKey("all", List.of(pageable, CountMode.EXACT)),
+                () -> onPrimaryInReadOnlyTransaction(() -> findAll(pageable)));
+    }
+    
+    private PageResponse<TodoDTO> findAll(Pageable pageable) {
+        OptionalLong total = statusCounters.count(null);
+        if (total.isPresent()) {
+            return toPageResponse(withTotal(todoRepository.findSliceBy(pageable), total.getAsLong()));
+        }
+        Page<TodoDTO> page = todoRepository.findAllDtos(pageable);
         return toPageResponse(page);
     }
     
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PageResponse<TodoDTO> getAllTodos(Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return getAllTodos(pageable);
+        }
+        return pageReads.execute(readKey("all", List.of(pageable, countMode)), () -> onPrimaryInReadOnlyTransaction(
+                () -> toPageResponse(todoRepository.findSliceBy(pageable), countMode, null, null)));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TodoDTO> getAllTodos(String cursor, int size, Sort sort) {
+        return scroll(TodoSpecifications.all(), cursor, size, sort);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<TodoDTO> searchTodos(String keyword, Status status) {
         String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword : null;
-        return todoRepository.searchTodos(searchKeyword, status).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return searchStrategy.search(searchKeyword, status);
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<TodoDTO> searchTodos(String keyword, Status status, Pageable pageable) {
+        return searchTodos(keyword, status, pageable, CountMode.EXACT);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PageResponse<TodoDTO> searchTodos(String keyword, Status status, Pageable pageable, CountMode countMode) {
         String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword : null;
-        Page<Todo> page = todoRepository.searchTodos(searchKeyword, status, pageable);
-        return toPageResponse(page);
+        if (pageable.isUnpaged()) {
+            return inReadOnlyTransaction(() -> search(searchKeyword, status, pageable, countMode));
+        }
+        
+        TodoSearchCache.SearchKey key = TodoSearchCache.SearchKey.of(searchKeyword, status, pageable, countMode);
+        PageResponse<TodoDTO> cached = searchCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return pageReads.execute(readKey("search", key), () -> onPrimaryInReadOnlyTransaction(() -> {
+            long epoch = searchCache.writeEpoch();
+            PageResponse<TodoDTO> result = search(searchKeyword, status, pageable, countMode);
+            searchCache.put(key, result, epoch);
+            return result;
+        }));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TodoDTO> searchTodos(String keyword, Status status, String cursor, int size, Sort sort) {
+        String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword : null;
+        return scroll(searchStrategy.toSpecification(searchKeyword, status), cursor, size, sort);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoDTO> getAllTodosIncludingArchived(Pageable pageable) {
+        return toPageResponse(anyTodoRepository.findAllDtos(pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoDTO> searchTodosIncludingArchived(String keyword, Status status, Pageable pageable) {
+        String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword : null;
+        return toPageResponse(anyTodoRepository.searchTodos(searchKeyword, status, pageable));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Status, Long> countTodosByStatus(String keyword) {
+        String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword : null;
+        if (searchKeyword == null && statusCounters.isReady()) {
+            Map<Status, Long> counts = new EnumMap<>(Status.class);
+            for (Status status : Status.values()) {
+                counts.put(status, statusCounters.count(status).orElse(0));
+            }
+            return Collections.unmodifiableMap(counts);
+        }
+        return Collections.unmodifiableMap(searchStrategy.countByStatus(searchKeyword));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoDTO> fuzzySearchTodos(String keyword, Status status, Pageable pageable) {
+        Optional<List<UUID>> ranked = fuzzyTermIndex.search(keyword, status);
+        if (ranked.isEmpty()) {
+            // Index still building: answer with the exact search rather than nothing
+            return searchTodos(keyword, status, pageable);
+        }
+        
+        List<UUID> matches = ranked.get();
+        List<UUID> pageIds = matches;
+        if (pageable.isPaged()) {
+            int from = (int) Math.min(pageable.getOffset(), matches.size());
+            pageIds = matches.subList(from, Math.min(from + pageable.getPageSize(), matches.size()));
+        }
+        return toPageResponse(new PageImpl<>(findAllInOrder(pageIds), pageable, matches.size()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TodoDTO> rankedSearchTodos(String keyword, Status status, Pageable pageable) {
+        int offset = pageable.isPaged() ? (int) pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE - offset;
+        Optional<LuceneTodoIndex.Hits> hits = luceneTodoIndex.search(keyword, status, offset, limit);
+        if (hits.isEmpty()) {
+            // Index still being verified or rebuilt: answer with the exact search rather than nothing
+            return searchTodos(keyword, status, pageable);
+        }
+        return toPageResponse(new PageImpl<>(findAllInOrder(hits.get().ids()), pageable, hits.get().totalHits()));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> suggestTitles(String prefix, int limit) {
+        return titleSuggestionIndex.suggest(prefix, limit);
     }
     
     @Override
     @Transactional(readOnly = true)
     public TodoDTO getTodoById(UUID id) {
-        Todo todo = todoRepository.findById(id)
+        // The cache only knows active todos; archived ones are still addressable by id
+        return todoByIdCache.get(id)
+                .or(() -> anyTodoRepository.findDtoById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Todo", "id", id));
-        return toDTO(todo);
     }
     
     @Override
     public TodoDTO createTodo(TodoCreateDTO todoCreateDTO) {
-        Todo todo = new Todo();
-        todo.setTodo(todoCreateDTO.getTodo());
-        todo.setDescription(todoCreateDTO.getDescription());
-        todo.setStatus(todoCreateDTO.getStatus() != null ? todoCreateDTO.getStatus() : Status.PENDING);
-        todo.setDueAt(todoCreateDTO.getDueAt());
-        // createdAt and lastUpdatedAt are automatically set by @PrePersist
+        TodoDTO created = toDTO(todoRepository.save(toEntity(todoCreateDTO)));
+        eventPublisher.publishEvent(TodoChangedEvent.created(created));
+        return created;
+    }
+    
+    @Override
+    public BulkResponse<TodoDTO> createTodos(List<TodoCreateDTO> todoCreateDTOs) {
+        List<Todo> todos = new ArrayList<>(todoCreateDTOs.size());
+        List<BulkItemError> errors = new ArrayList<>();
+        for (int i = 0; i < todoCreateDTOs.size(); i++) {
+            TodoCreateDTO todoCreateDTO = todoCreateDTOs.get(i);
+            List<String> violations = validate(todoCreateDTO);
+            if (violations.isEmpty()) {
+                todos.add(toEntity(todoCreateDTO));
+            } else {
+                errors.add(new BulkItemError(i, violations));
+            }
+        }
         
-        Todo savedTodo = todoRepository.save(todo);
-        return toDTO(savedTodo);
+        List<TodoDTO> created = todos.isEmpty()
+                ? List.of()
+                : todoRepository.insertAll(todos).stream().map(this::toDTO).toList();
+        created.forEach(todo -> eventPublisher.publishEvent(TodoChangedEvent.created(todo)));
+        return new BulkResponse<>(created, errors);
     }
     
     @Override
     public TodoDTO updateTodo(UUID id, TodoUpdateDTO todoUpdateDTO) {
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Todo", "id", id));
+        return updateTodo(id, todoUpdateDTO, null);
+    }
+    
+    @Override
+    public TodoDTO updateTodo(UUID id, TodoUpdateDTO todoUpdateDTO, Long expectedVersion) {
+        // Only the non-null fields are written; no row affected means no such todo, or another version
+        TodoWriteStrategy.Change change = writeStrategy.update(id, todoUpdateDTO, expectedVersion)
+                .orElseThrow(() -> updateFailure(id, expectedVersion));
+        eventPublisher.publishEvent(TodoChangedEvent.updated(change.before(), change.after()));
+        return change.after();
+    }
+    
+    private RuntimeException updateFailure(UUID id, Long expectedVersion) {
+        if (expectedVersion != null && todoRepository.existsById(id)) {
+            return new PreconditionFailedException("Todo", id, expectedVersion);
+        }
+        if (todoArchiveRepository.existsById(id)) {
+            return new ConflictException(String.format("Todo '%s' is archived and can no longer be changed", id));
+        }
+        return new ResourceNotFoundException("Todo", "id", id);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int updateTodoStatuses(TodoStatusUpdateDTO statusUpdateDTO) {
+        Status status = statusUpdateDTO.getStatus();
+        LocalDateTime now = LocalDateTime.now();
+        return forEachSelectedChunk(statusUpdateDTO.getIds(), statusUpdateDTO.getKeyword(),
+                statusUpdateDTO.getCurrentStatus(), chunk -> {
+            // The rows are locked: listeners get their exact previous state, and no-op changes are skipped
+            List<TodoDTO> affected = chunk.stream()
+                    .filter(todo -> todo.getStatus() != status)
+                    .toList();
+            if (affected.isEmpty()) {
+                return 0;
+            }
+            int updated = todoRepository.updateStatus(affected.stream().map(TodoDTO::getId).toList(), status, now);
+            for (TodoDTO before : affected) {
+                TodoDTO after = new TodoDTO(before.getId(), before.getTodo(), before.getDescription(), status,
+                        before.getCreatedAt(), now, before.getDueAt(), TodoDTO.nextVersion(before.getVersion()));
+                eventPublisher.publishEvent(TodoChangedEvent.updated(before, after));
+            }
+            return updated;
+        });
+    }
+    
+    @Override
+    public void deleteTodo(UUID id) {
+        Optional<TodoDTO> deleted = writeStrategy.delete(id);
+        if (deleted.isPresent()) {
+            eventPublisher.publishEvent(TodoChangedEvent.deleted(deleted.get()));
+            return;
+        }
+        // Archived todos already left the indexes, counters and caches when they were archived
+        if (todoArchiveRepository.deleteArchived(id) == 0) {
+            throw new ResourceNotFoundException("Todo", "id", id);
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkDeleteResponse deleteTodos(TodoBulkDeleteDTO bulkDeleteDTO) {
+        Set<UUID> foundIds = new HashSet<>();
+        int deleted = forEachSelectedChunk(bulkDeleteDTO.getIds(), bulkDeleteDTO.getKeyword(),
+                bulkDeleteDTO.getStatus(), chunk -> {
+            if (chunk.isEmpty()) {
+                return 0;
+            }
+            // The rows are locked: every one read is deleted here, so each gets exactly one event
+            int chunkDeleted = todoRepository.deleteByIds(chunk.stream().map(TodoDTO::getId).toList());
+            chunk.forEach(todo -> eventPublisher.publishEvent(TodoChangedEvent.deleted(todo)));
+            if (bulkDeleteDTO.getIds() != null) {
+                chunk.forEach(todo -> foundIds.add(todo.getId()));
+            }
+            return chunkDeleted;
+        });
         
-        if (todoUpdateDTO.getTodo() != null) {
-            todo.setTodo(todoUpdateDTO.getTodo());
+        List<UUID> notFound = List.of();
+        if (bulkDeleteDTO.getIds() != null) {
+            notFound = bulkDeleteDTO.getIds().stream()
+                    .distinct()
+                    .filter(id -> !foundIds.contains(id))
+                    .toList();
         }
-        if (todoUpdateDTO.getDescription() != null) {
-            todo.setDescription(todoUpdateDTO.getDescription());
+        return new BulkDeleteResponse(deleted, notFound);
+    }
+    
+    private PageResponse<TodoDTO> search(String keyword, Status status, Pageable pageable, CountMode countMode) {
+        if (countMode != CountMode.EXACT) {
+            return toPageResponse(searchStrategy.searchSlice(keyword, status, pageable), countMode, keyword, status);
         }
-        if (todoUpdateDTO.getStatus() != null) {
-            todo.setStatus(todoUpdateDTO.getStatus());
+        OptionalLong total = keyword == null ? statusCounters.count(status) : OptionalLong.empty();
+        if (total.isPresent()) {
+            return toPageResponse(withTotal(searchStrategy.searchSlice(null, status, pageable), total.getAsLong()));
         }
-        if (todoUpdateDTO.getDueAt() != null) {
-            todo.setDueAt(todoUpdateDTO.getDueAt());
+        Page<TodoDTO> page = searchStrategy.search(keyword, status, pageable);
+        return toPageResponse(page);
+    }
+    
+    /**
+     * Lock the todos a bulk operation applies to, chunk by chunk, and run {@code action} on each
+     * chunk while its rows are locked. The todos are those with the given ids, or else those
+     * matching the keyword and status filter; exactly one of the two selections must be given.
+     * A selection by ids runs in one transaction. A filter selection is walked in id order with one transaction
+     * per chunk, so neither memory nor the events pending until commit grow with its size.
+     *
+     * @return the sum of what {@code action} returned
+     */
+    private int forEachSelectedChunk(List<UUID> ids, String keyword, Status status,
+                                     ToIntFunction<List<TodoDTO>> action) {
+        String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword : null;
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasFilter = searchKeyword != null || status != null;
+        if (hasIds == hasFilter) {
+            throw new IllegalArgumentException("Select todos either by ids or by keyword/status filter");
         }
-        // lastUpdatedAt is automatically updated by @PreUpdate
         
-        Todo updatedTodo = todoRepository.save(todo);
-        return toDTO(updatedTodo);
+        if (hasIds) {
+            return transactionTemplate.execute(tx -> {
+                int total = 0;
+                for (List<UUID> chunk : chunks(ids.stream().distinct().toList())) {
+                    total += action.applyAsInt(todoRepository.lockByIds(chunk).stream().map(this::toDTO).toList());
+                }
+                return total;
+            });
+        }
+        AtomicInteger total = new AtomicInteger();
+        UUID after = BEFORE_FIRST_ID;
+        while (after != null) {
+            UUID from = after;
+            after = transactionTemplate.execute(tx -> {
+                List<TodoDTO> chunk = todoRepository.lockMatching(searchKeyword, status, from,
+                                PageRequest.of(0, TodoRepository.MAX_IN_PARAMETERS)).stream()
+                        .map(this::toDTO)
+                        .toList();
+                total.addAndGet(action.applyAsInt(chunk));
+                // A short chunk is the last one
+                return chunk.size() < TodoRepository.MAX_IN_PARAMETERS ? null : chunk.get(chunk.size() - 1).getId();
+            });
+        }
+        return total.get();
     }
     
-    @Override
-    public void deleteTodo(UUID id) {
-        if (!todoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Todo", "id", id);
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += TodoRepository.MAX_IN_PARAMETERS) {
+            chunks.add(items.subList(from, Math.min(from + TodoRepository.MAX_IN_PARAMETERS, items.size())));
+        }
+        return chunks;
+    }
+    
+    /**
+     * Load todos by id keeping the order of {@code ids}; ids deleted meanwhile are skipped.
+     */
+    private List<TodoDTO> findAllInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
-        todoRepository.deleteById(id);
+        Map<UUID, TodoDTO> loaded = todoRepository.searchTodosByIds(ids, null).stream()
+                .collect(Collectors.toMap(TodoDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+    
+    private Todo toEntity(TodoCreateDTO todoCreateDTO) {
+        Todo todo = new Todo();
+        todo.setTodo(todoCreateDTO.getTodo());
+        todo.setDescription(todoCreateDTO.getDescription());
+        todo.setStatus(todoCreateDTO.getStatus() != null ? todoCreateDTO.getStatus() : Status.PENDING);
+        todo.setDueAt(todoCreateDTO.getDueAt());
+        // createdAt and lastUpdatedAt are automatically set by @PrePersist
+        return todo;
+    }
+    
+    /**
+     * Bean validation messages for one bulk item, formatted like the single-item error response.
+     */
+    private List<String> validate(TodoCreateDTO todoCreateDTO) {
+        if (todoCreateDTO == null) {
+            return List.of("Todo is required");
+        }
+        return validator.validate(todoCreateDTO).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+    
+    /**
+     * Run a coalesced read in its own read-only transaction. The reads sharing it are called
+     * without one: a read-only JPA transaction takes its connection when it begins, so readers
+     * waiting on an in-flight read would otherwise each hold a pool connection. Joins the
+     * caller's transaction, if any.
+     */
+    private <T> T inReadOnlyTransaction(Supplier<T> read) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> read.get());
+    }
+    
+    /**
+     * Run a coalesced read like {@link #inReadOnlyTransaction}, on the primary. Its one result is
+     * handed to every caller waiting on it, including callers whose own reads are held on the
+     * primary by their read-your-writes window, and search results are cached for everyone, so it
+     * must not come from a lagging replica.
+     */
+    private <T> T onPrimaryInReadOnlyTransaction(Supplier<T> read) {
+        return PrimaryReads.call(() -> inReadOnlyTransaction(read));
+    }
+    
+    /**
+     * Identical reads share one in-flight query only while no change commits: a reader arriving
+     * after a commit must not be handed a result that was started before it.
+     */
+    private ReadKey readKey(String operation, Object arguments) {
+        return new ReadKey(operation, arguments, searchCache.writeEpoch());
     }
     
     private TodoDTO toDTO(Todo todo) {
@@ -117,17 +506,27 @@ public class TodoServiceImpl implements TodoService {
                 todo.getStatus(),
                 todo.getCreatedAt(),
                 todo.getLastUpdatedAt(),
-                todo.getDueAt()
+                todo.getDueAt(),
+                todo.getVersion()
         );
     }
     
-    private PageResponse<TodoDTO> toPageResponse(Page<Todo> page) {
-        List<TodoDTO> content = page.getContent().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    private CursorPageResponse<TodoDTO> scroll(Specification<Todo> specification, String cursor, int size, Sort sort) {
+        Sort keysetSort = KeysetCursors.keysetSort(sort);
+        KeysetScrollPosition position = KeysetCursors.decode(cursor, keysetSort);
+        Window<TodoDTO> window = todoRepository.scrollDtos(specification, keysetSort, position, size);
         
+        List<TodoDTO> content = window.getContent();
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = KeysetCursors.encode((KeysetScrollPosition) window.positionAt(window.size() - 1), keysetSort);
+        }
+        return new CursorPageResponse<>(content, size, nextCursor, nextCursor != null);
+    }
+    
+    private PageResponse<TodoDTO> toPageResponse(Page<TodoDTO> page) {
         return new PageResponse<>(
-                content,
+                page.getContent(),
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
@@ -136,5 +535,60 @@ public class TodoServiceImpl implements TodoService {
                 page.isLast()
         );
     }
+    
+    /**
+     * Turn a slice into a page whose total comes from the status counters. The total is never
+     * reported below the rows the slice proves to exist, in case the counters lag behind.
+     */
+    private Page<TodoDTO> withTotal(Slice<TodoDTO> slice, long total) {
+        long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        return new PageImpl<>(slice.getContent(), slice.getPageable(),
+                Math.max(total, slice.hasNext() ? seen + 1 : seen));
+    }
+    
+    /**
+     * Build a page response from a count-free slice. Reaching the last page pins the total down
+     * exactly, and so do the status counters for queries without a keyword; otherwise it is the
+     * planner estimate (never less than the rows already seen) for {@link CountMode#ESTIMATED},
+     * or unknown.
+     */
+    private PageResponse<TodoDTO> toPageResponse(Slice<TodoDTO> slice, CountMode countMode, String keyword, Status status) {
+        List<TodoDTO> content = slice.getContent();
+        long offset = (long) slice.getNumber() * slice.getSize();
+        long seen = offset + content.size();
+        
+        long totalElements = -1;
+        TotalElementsAccuracy accuracy = TotalElementsAccuracy.UNKNOWN;
+        if (!slice.hasNext() && (!content.isEmpty() || slice.isFirst())) {
+            totalElements = seen;
+            accuracy = TotalElementsAccuracy.EXACT;
+        } else {
+            OptionalLong counted = keyword == null ? statusCounters.count(status) : OptionalLong.empty();
+            OptionalLong estimate = counted.isEmpty() && countMode == CountMode.ESTIMATED
+                    ? rowCountEstimator.estimate(keyword, status)
+                    : OptionalLong.empty();
+            if (counted.isPresent() || estimate.isPresent()) {
+                long total = counted.isPresent() ? counted.getAsLong() : estimate.getAsLong();
+                totalElements = Math.max(total, slice.hasNext() ? seen + 1 : seen);
+                accuracy = counted.isPresent() ? TotalElementsAccuracy.EXACT : TotalElementsAccuracy.ESTIMATED;
+            }
+        }
+        int totalPages = totalElements < 0 ? -1 : (int) ((totalElements + slice.getSize() - 1) / slice.getSize());
+        
+        return new PageResponse<>(
+                content,
+                slice.getNumber(),
+                slice.getSize(),
+                totalElements,
+                totalPages,
+                slice.isFirst(),
+                !slice.hasNext(),
+                accuracy
+        );
+    }
+    
+    private record ReadKey(String operation, Object arguments, long writeEpoch) {
+    }
 }
-
@@ -0,0 +1,114 @@
+package dev.hieu.springboothelloworld.service.archive;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoArchiveRepository;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moves todos that have been {@code COMPLETED} or {@code CANCELLED} for longer than
+ * {@code todo.archive.min-age} from {@code todo} to {@code todo_archive}, so listings, searches
+ * and counts over active work do not scan them.
+ * <p>
+ * Each batch is copied with one {@code INSERT ... SELECT} and deleted with one {@code DELETE} in
+ * its own transaction, and publishes a deletion {@link TodoChangedEvent} per todo so in-memory
+ * indexes, counters and caches drop it like any other todo leaving the table.
+ * <p>
+ * Off unless {@code todo.archive.enabled} is set: turning it on starts moving existing data.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.archive.enabled", havingValue = "true")
+@Slf4j
+public class TodoArchiver {
+
+    static final Set<Status> TERMINAL_STATUSES = EnumSet.of(Status.COMPLETED, Status.CANCELLED);
+
+    private final TodoRepository todoRepository;
+    private final TodoArchiveRepository todoArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int batchSize;
+
+    public TodoArchiver(TodoRepository todoRepository,
+                        TodoArchiveRepository todoArchiveRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${todo.archive.min-age:P30D}") Duration minAge,
+                        @Value("${todo.archive.batch-size:500}") int batchSize) {
+        if (batchSize < 1 || batchSize > TodoRepository.MAX_IN_PARAMETERS) {
+            throw new IllegalArgumentException("todo.archive.batch-size must be between 1 and "
+                    + TodoRepository.MAX_IN_PARAMETERS);
+        }
+        this.todoRepository = todoRepository;
+        this.todoArchiveRepository = todoArchiveRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Archive every eligible todo, one batch after another until a batch comes back short.
+     *
+     * @return the number of todos archived
+     */
+    @Scheduled(initialDelayString = "${todo.archive.interval:PT1H}",
+               fixedDelayString = "${todo.archive.interval:PT1H}")
+    public long archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        long archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += moved;
+        } while (moved == batchSize);
+        if (archived > 0) {
+            log.info("Archived {} todos last updated before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Todo> batch = todoRepository.findArchivable(TERMINAL_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<TodoDTO> archived = batch.stream().map(TodoArchiver::toDTO).toList();
+        List<UUID> ids = archived.stream().map(TodoDTO::getId).toList();
+        todoArchiveRepository.copyFromTodos(ids);
+        todoRepository.deleteByIds(ids);
+        archived.forEach(todo -> eventPublisher.publishEvent(TodoChangedEvent.deleted(todo)));
+        return archived.size();
+    }
+
+    private static TodoDTO toDTO(Todo todo) {
+        return new TodoDTO(
+                todo.getId(),
+                todo.getTodo(),
+                todo.getDescription(),
+                todo.getStatus(),
+                todo.getCreatedAt(),
+                todo.getLastUpdatedAt(),
+                todo.getDueAt(),
+                todo.getVersion()
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package dev.hieu.springboothelloworld.service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded read-through cache of todos by id, including ids that do not exist.
+ * <p>
+ * Loads project straight to {@link TodoDTO} through {@link TodoRepository#findDtoById(UUID)}, so a
+ * miss or refresh hydrates no entity, and read the primary: a load from a lagging replica right
+ * after an eviction would cache the previous state for every client until it expires.
+ * <p>
+ * Found todos live for {@code ttl}, misses for the much shorter {@code negative-ttl}, so clients
+ * probing unknown ids cost one query per id and TTL instead of one per request. Entries read after
+ * {@code refresh-after} are reloaded in the background while the cached value keeps being served,
+ * which keeps hot ids from ever expiring on a request thread.
+ * <p>
+ * A committed {@link TodoChangedEvent} evicts its id; Caffeine drops a background reload that
+ * finishes after such an eviction, so a reload can not resurrect the previous state.
+ * <p>
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics with {@code cache=todoById}.
+ */
+@Component
+public class TodoByIdCache {
+
+    static final String CACHE_NAME = "todoById";
+
+    private final LoadingCache<UUID, Optional<TodoDTO>> cache;
+
+    public TodoByIdCache(
+            @Value("${todo.by-id-cache.maximum-size:10000}") long maximumSize,
+            @Value("${todo.by-id-cache.ttl:PT10M}") Duration ttl,
+            @Value("${todo.by-id-cache.negative-ttl:PT30S}") Duration negativeTtl,
+            @Value("${todo.by-id-cache.refresh-after:PT1M}") Duration refreshAfter,
+            TodoRepository todoRepository,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<UUID, Optional<TodoDTO>>writing(
+                        (id, todo) -> todo.isPresent() ? ttl : negativeTtl))
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .build(id -> PrimaryReads.call(() -> todoRepository.findDtoById(id)));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @return the todo, loading it on a miss, or an empty optional if no todo has this id
+     */
+    public Optional<TodoDTO> get(UUID id) {
+        return cache.get(id);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        cache.invalidate(event.getId());
+    }
+
+    @EventListener(TodoDataLoadedEvent.class)
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,45 @@
+package dev.hieu.springboothelloworld.service.event;
+
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Published by the todo write paths whenever a single todo is created, updated or deleted;
+ * bulk writes publish one event per affected todo. Moving a todo to the archive is published as
+ * its deletion.
+ * <p>
+ * {@code before} is {@code null} for a creation and {@code after} is {@code null} for a deletion.
+ * Components that derive in-memory state from todos (indexes, counters, caches) listen with
+ * {@code @TransactionalEventListener} so they only ever observe committed changes.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TodoChangedEvent {
+
+    private final TodoDTO before;
+    private final TodoDTO after;
+
+    public static TodoChangedEvent created(TodoDTO after) {
+        return new TodoChangedEvent(null, after);
+    }
+
+    public static TodoChangedEvent updated(TodoDTO before, TodoDTO after) {
+        return new TodoChangedEvent(before, after);
+    }
+
+    public static TodoChangedEvent deleted(TodoDTO before) {
+        return new TodoChangedEvent(before, null);
+    }
+
+    public UUID getId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    public boolean isDeletion() {
+        return after == null;
+    }
+}
@@ -0,0 +1,11 @@
+package dev.hieu.springboothelloworld.service.event;
+
+/**
+ * Published by {@link dev.hieu.springboothelloworld.configuration.DataInitializer} once startup
+ * seeding has finished (or was skipped because the table already had data).
+ * <p>
+ * In-memory structures derived from the {@code todo} table rebuild themselves from the database
+ * when they receive this event.
+ */
+public class TodoDataLoadedEvent {
+}
@@ -0,0 +1,17 @@
+package dev.hieu.springboothelloworld.service.export;
+
+import dev.hieu.springboothelloworld.domain.Status;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TodoExportService {
+
+    /**
+     * Write every todo matching {@code keyword} and {@code status} (same filter as
+     * {@link dev.hieu.springboothelloworld.service.TodoService#searchTodos}) to {@code out} as it is
+     * read from the database, so memory use does not grow with the number of rows.
+     * {@code out} is flushed but not closed.
+     */
+    void export(String keyword, Status status, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,95 @@
+package dev.hieu.springboothelloworld.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.service.search.TodoSearchStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams todos from {@link TodoSearchStrategy#stream} straight into the response. Rows arrive as
+ * DTO projections through a fetch-size cursor, so no entity ever enters the persistence context
+ * and only one JDBC batch plus the output buffer is held in memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoExportServiceImpl implements TodoExportService {
+
+    static final String CSV_HEADER = "id,todo,description,status,createdAt,lastUpdatedAt,dueAt";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final TodoSearchStrategy searchStrategy;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(String keyword, Status status, ExportFormat format, OutputStream out) throws IOException {
+        String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (Stream<TodoDTO> todos = searchStrategy.stream(searchKeyword, status)) {
+            if (format == ExportFormat.CSV) {
+                writeCsv(todos.iterator(), writer);
+            } else {
+                writeNdjson(todos.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<TodoDTO> todos, Writer writer) throws IOException {
+        ObjectWriter jsonWriter = objectMapper.writerFor(TodoDTO.class);
+        while (todos.hasNext()) {
+            writer.write(jsonWriter.writeValueAsString(todos.next()));
+            writer.write('\n');
+        }
+    }
+
+    private static void writeCsv(Iterator<TodoDTO> todos, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (todos.hasNext()) {
+            TodoDTO todo = todos.next();
+            writer.write(String.join(",",
+                    csvField(todo.getId() != null ? todo.getId().toString() : null),
+                    csvField(todo.getTodo()),
+                    csvField(todo.getDescription()),
+                    csvField(todo.getStatus() != null ? todo.getStatus().name() : null),
+                    csvField(format(todo.getCreatedAt())),
+                    csvField(format(todo.getLastUpdatedAt())),
+                    csvField(format(todo.getDueAt()))));
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * Quote a value when it contains a separator, quote or line break, doubling embedded quotes.
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+    }
+}
@@ -0,0 +1,15 @@
+package dev.hieu.springboothelloworld.service.paging;
+
+/**
+ * How much effort an offset-paged query should spend on the total number of results.
+ * Anything other than {@link #EXACT} fetches a {@code Slice} ({@code size + 1} rows) and skips
+ * the {@code COUNT(*)} query, which for keyword searches scans the whole table.
+ */
+public enum CountMode {
+    /** Run the count query; the classic {@code Page} behaviour. */
+    EXACT,
+    /** Skip the count query and report the planner's row estimate when the database offers one. */
+    ESTIMATED,
+    /** Skip the count query; only whether a next page exists is reported. */
+    NONE
+}
@@ -0,0 +1,125 @@
+package dev.hieu.springboothelloworld.service.paging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hieu.springboothelloworld.domain.Status;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Encodes and decodes the opaque cursors used for keyset pagination.
+ * <p>
+ * A cursor is the Base64url form of the last row's sort key values plus the sort it was produced
+ * for. Paging then seeks with {@code WHERE (sortKey, id) > (:lastKey, :lastId)} instead of skipping
+ * rows with {@code OFFSET}, so deep pages cost the same as the first one and rows inserted
+ * concurrently never shift or duplicate entries across pages.
+ */
+public final class KeysetCursors {
+
+    /**
+     * Properties that may drive a keyset. They must be non-null columns: a {@code NULL} key cannot
+     * be compared in the seek predicate, which rules out {@code description} and {@code dueAt}.
+     */
+    private static final Set<String> KEYSET_PROPERTIES = Set.of("todo", "status", "id", "createdAt", "lastUpdatedAt");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SORT_FIELD = "_sort";
+
+    private KeysetCursors() {
+    }
+
+    /**
+     * Turn the requested sort into a total order by appending {@code id} as the tie-breaker.
+     *
+     * @throws IllegalArgumentException if a sort property cannot be used for keyset paging
+     */
+    public static Sort keysetSort(Sort requested) {
+        Sort sort = requested == null || requested.isUnsorted() ? Sort.by("id") : requested;
+        for (Sort.Order order : sort) {
+            if (!KEYSET_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException(
+                        "Sort property '" + order.getProperty() + "' is not supported in cursor mode");
+            }
+        }
+        if (sort.getOrderFor("id") == null) {
+            Sort.Direction direction = sort.iterator().next().getDirection();
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+        return sort;
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode}; {@code null} or blank means "first page".
+     *
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for a different sort
+     */
+    public static KeysetScrollPosition decode(String cursor, Sort keysetSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, String> values;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.trim());
+            values = MAPPER.readValue(json, new TypeReference<LinkedHashMap<String, String>>() {
+            });
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!signature(keysetSort).equals(values.remove(SORT_FIELD))) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : keysetSort) {
+            String value = values.get(order.getProperty());
+            if (value == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            keys.put(order.getProperty(), parse(order.getProperty(), value));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(KeysetScrollPosition position, Sort keysetSort) {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(SORT_FIELD, signature(keysetSort));
+        position.getKeys().forEach((property, value) -> values.put(property, String.valueOf(value)));
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsString(values).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    private static Object parse(String property, String value) {
+        try {
+            return switch (property) {
+                case "id" -> UUID.fromString(value);
+                case "status" -> Status.valueOf(value);
+                case "createdAt", "lastUpdatedAt" -> LocalDateTime.parse(value);
+                default -> value;
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String signature(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + "," + order.getDirection())
+                .collect(Collectors.joining(";"));
+    }
+}
@@ -0,0 +1,104 @@
+package dev.hieu.springboothelloworld.service.paging;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cheap approximation of how many todos match a search, read from the database's planner
+ * statistics instead of a {@code COUNT(*)}.
+ * <p>
+ * PostgreSQL estimates any filter through {@code EXPLAIN} (the {@code rows=} figure of the top plan
+ * node). H2 and MySQL only keep per-table statistics, so they can estimate the unfiltered listing
+ * but not a keyword or status search. Whenever no estimate is available the result is empty and
+ * the caller reports the total as unknown.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RowCountEstimator {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private static final String H2_TABLE_ROWS =
+            "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES " +
+            "WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME = 'TODO'";
+
+    private static final String MYSQL_TABLE_ROWS =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'todo'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String databaseProduct;
+
+    /**
+     * Estimate the number of todos matching {@code keyword} (substring, case-insensitive) and
+     * {@code status}; {@code null} means "no filter" for either.
+     */
+    public OptionalLong estimate(String keyword, Status status) {
+        try {
+            boolean unfiltered = keyword == null && status == null;
+            return switch (databaseProduct()) {
+                case "PostgreSQL" -> explainPostgres(keyword, status);
+                case "H2" -> unfiltered ? queryForEstimate(H2_TABLE_ROWS) : OptionalLong.empty();
+                case "MySQL" -> unfiltered ? queryForEstimate(MYSQL_TABLE_ROWS) : OptionalLong.empty();
+                default -> OptionalLong.empty();
+            };
+        } catch (DataAccessException e) {
+            log.debug("Row count estimate unavailable, reporting total as unknown", e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private OptionalLong explainPostgres(String keyword, Status status) {
+        StringBuilder sql = new StringBuilder("EXPLAIN SELECT 1 FROM todo t WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (keyword != null) {
+            String pattern = "%" + keyword + "%";
+            sql.append(" AND (t.todo ILIKE ? OR t.description ILIKE ?)");
+            args.add(pattern);
+            args.add(pattern);
+        }
+        if (status != null) {
+            sql.append(" AND t.status = ?");
+            args.add(status.name());
+        }
+
+        List<String> plan = jdbcTemplate.queryForList(sql.toString(), String.class, args.toArray());
+        if (plan.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        Matcher rows = PLAN_ROWS.matcher(plan.get(0));
+        return rows.find() ? OptionalLong.of(Long.parseLong(rows.group(1))) : OptionalLong.empty();
+    }
+
+    private OptionalLong queryForEstimate(String sql) {
+        List<Long> rows = jdbcTemplate.queryForList(sql, Long.class);
+        if (rows.isEmpty() || rows.get(0) == null || rows.get(0) < 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(rows.get(0));
+    }
+
+    private String databaseProduct() {
+        String product = databaseProduct;
+        if (product == null) {
+            product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            product = product != null ? product : "";
+            databaseProduct = product;
+        }
+        return product;
+    }
+}
@@ -0,0 +1,129 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.StatusCount;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.repository.TodoSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Portable search used by H2 and MySQL: keywords are resolved through the in-memory
+ * {@link TrigramIndex} and filtered by id, otherwise the JPQL {@code LIKE} query is used.
+ */
+@Component
+@Profile("!postgres")
+@RequiredArgsConstructor
+public class DefaultTodoSearchStrategy implements TodoSearchStrategy {
+
+    /**
+     * Above this many trigram matches an {@code IN} list stops paying off against the plain scan.
+     */
+    static final int MAX_INDEXED_MATCHES = 1000;
+
+    private final TodoRepository todoRepository;
+    private final TrigramIndex trigramIndex;
+
+    @Override
+    public List<TodoDTO> search(String keyword, Status status) {
+        Optional<Set<UUID>> indexedMatches = findIndexedMatches(keyword);
+        if (indexedMatches.isEmpty()) {
+            return todoRepository.searchTodos(keyword, status);
+        }
+        if (indexedMatches.get().isEmpty()) {
+            return List.of();
+        }
+        return todoRepository.searchTodosByIds(indexedMatches.get(), status);
+    }
+
+    @Override
+    public Page<TodoDTO> search(String keyword, Status status, Pageable pageable) {
+        Optional<Set<UUID>> indexedMatches = findIndexedMatches(keyword);
+        if (indexedMatches.isEmpty()) {
+            return todoRepository.searchTodos(keyword, status, pageable);
+        }
+        if (indexedMatches.get().isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return todoRepository.searchTodosByIds(indexedMatches.get(), status, pageable);
+    }
+
+    @Override
+    public Slice<TodoDTO> searchSlice(String keyword, Status status, Pageable pageable) {
+        Optional<Set<UUID>> indexedMatches = findIndexedMatches(keyword);
+        if (indexedMatches.isEmpty()) {
+            return todoRepository.searchTodosSlice(keyword, status, pageable);
+        }
+        if (indexedMatches.get().isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        return todoRepository.searchTodosByIdsSlice(indexedMatches.get(), status, pageable);
+    }
+
+    /**
+     * Always the LIKE scan: an export reads every match anyway, and a trigram id list would have to
+     * be bounded to be worth it.
+     */
+    @Override
+    public Stream<TodoDTO> stream(String keyword, Status status) {
+        return todoRepository.streamTodos(keyword, status);
+    }
+
+    @Override
+    public Map<Status, Long> countByStatus(String keyword) {
+        if (keyword == null) {
+            return StatusCount.toMap(todoRepository.countByStatus());
+        }
+        Optional<Set<UUID>> indexedMatches = findIndexedMatches(keyword);
+        if (indexedMatches.isEmpty()) {
+            // Cached in Hibernate's query cache for every client, so read from the primary
+            return StatusCount.toMap(PrimaryReads.call(() -> todoRepository.countByStatusMatching(keyword)));
+        }
+        if (indexedMatches.get().isEmpty()) {
+            return StatusCount.toMap(List.of());
+        }
+        return StatusCount.toMap(todoRepository.countByStatusForIds(indexedMatches.get()));
+    }
+
+    @Override
+    public Specification<Todo> toSpecification(String keyword, Status status) {
+        Optional<Set<UUID>> indexedMatches = findIndexedMatches(keyword);
+        Specification<Todo> keywordFilter;
+        if (indexedMatches.isEmpty()) {
+            keywordFilter = TodoSpecifications.keywordContains(keyword);
+        } else if (indexedMatches.get().isEmpty()) {
+            keywordFilter = TodoSpecifications.none();
+        } else {
+            keywordFilter = TodoSpecifications.idIn(indexedMatches.get());
+        }
+        return keywordFilter.and(TodoSpecifications.hasStatus(status));
+    }
+
+    /**
+     * Resolve a keyword through the trigram index. An empty optional means the index cannot answer
+     * (or the match set is too large to be worth an id filter) and the LIKE query should run instead.
+     */
+    private Optional<Set<UUID>> findIndexedMatches(String keyword) {
+        if (keyword == null) {
+            return Optional.empty();
+        }
+        return trigramIndex.search(keyword)
+                .filter(ids -> ids.size() <= MAX_INDEXED_MATCHES);
+    }
+}
@@ -0,0 +1,391 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Typo-tolerant term index over {@code Todo.todo} and {@code Todo.description}.
+ * <p>
+ * Both fields are split into lower-cased words. Every distinct word goes into a BK-tree
+ * (a metric tree under Levenshtein distance), which finds all words within distance {@code k}
+ * of a query word by only descending into children whose edge distance lies in
+ * {@code [d - k, d + k]}, instead of comparing against the whole dictionary. Posting lists map
+ * each word to the todos containing it.
+ * <p>
+ * A todo matches when every query word has a word within its allowed distance in the todo
+ * (0 edits up to 2 characters, 1 up to 5, 2 beyond). Matches are ranked by the sum of the
+ * smallest distances, then by title.
+ * <p>
+ * BK-trees do not support removal, so a word no todo uses any more loses its posting list but
+ * stays in the tree and is skipped; once such dead words make up more than half of the tree, the
+ * tree is rebuilt from the live words. The whole index is rebuilt on {@link TodoDataLoadedEvent}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FuzzyTermIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final TodoRepository todoRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private BkTree terms = new BkTree();
+    private Map<String, Set<UUID>> postings = new HashMap<>();
+    private Map<UUID, IndexedTodo> documents = new HashMap<>();
+    private volatile boolean ready;
+    /**
+     * Changes committed while a rebuild streams the database, {@code null} otherwise. They are
+     * applied to the live structures right away and replayed onto the rebuilt ones before the
+     * swap; guarded by the write lock.
+     */
+    private List<TodoChangedEvent> changesDuringRebuild;
+
+    /**
+     * Ids of the todos matching every word of {@code keyword} within the allowed edit distance
+     * and having {@code status} (any status when {@code null}), best match first.
+     *
+     * @return the ranked ids, or an empty optional while the index is not built yet
+     */
+    public Optional<List<UUID>> search(String keyword, Status status) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        List<String> queryWords = new ArrayList<>(words(keyword));
+        if (queryWords.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            // Best distance per todo for each query word; a todo missing any word is dropped
+            Map<UUID, int[]> distances = new HashMap<>();
+            for (int i = 0; i < queryWords.size(); i++) {
+                String queryWord = queryWords.get(i);
+                Map<UUID, int[]> next = new HashMap<>();
+                for (Map.Entry<String, Integer> match : terms.find(queryWord, maxDistance(queryWord)).entrySet()) {
+                    for (UUID id : postings.getOrDefault(match.getKey(), Set.of())) {
+                        int[] best;
+                        if (i == 0) {
+                            if (status != null && documents.get(id).status() != status) {
+                                continue;
+                            }
+                            best = next.computeIfAbsent(id, key -> newDistances(queryWords.size()));
+                        } else {
+                            best = distances.get(id);
+                            if (best == null) {
+                                continue;
+                            }
+                        }
+                        best[i] = Math.min(best[i], match.getValue());
+                        next.put(id, best);
+                    }
+                }
+                distances = next;
+            }
+
+            Comparator<Map.Entry<UUID, int[]>> ranking = Comparator
+                    .<Map.Entry<UUID, int[]>>comparingInt(entry -> Arrays.stream(entry.getValue()).sum())
+                    .thenComparing(entry -> documents.get(entry.getKey()).sortTitle())
+                    .thenComparing(Map.Entry::getKey);
+            return Optional.of(distances.entrySet().stream()
+                    .sorted(ranking)
+                    .map(Map.Entry::getKey)
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of words in the BK-tree, including dead ones no todo uses any more.
+     */
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(terms, postings, documents, event);
+            if (2 * (terms.size() - postings.size()) > terms.size()) {
+                terms = BkTree.of(postings.keySet());
+            }
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the database off to the side while searches keep being served;
+     * changes committed meanwhile are replayed onto the new structures before the swap, so they
+     * win over the rows streamed before them.
+     */
+    @EventListener(TodoDataLoadedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        BkTree newTerms = new BkTree();
+        Map<String, Set<UUID>> newPostings = new HashMap<>();
+        Map<UUID, IndexedTodo> newDocuments = new HashMap<>();
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            try (Stream<TodoDTO> todos = PrimaryReads.call(todoRepository::streamAll)) {
+                todos.forEach(todo -> addInternal(newTerms, newPostings, newDocuments,
+                        todo.getId(), todo.getTodo(), todo.getDescription(), todo.getStatus()));
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (TodoChangedEvent event : changesDuringRebuild) {
+                    apply(newTerms, newPostings, newDocuments, event);
+                }
+                // Replayed removals may have left dead words; start from the live ones only
+                terms = newTerms.size() > newPostings.size() ? BkTree.of(newPostings.keySet()) : newTerms;
+                postings = newPostings;
+                documents = newDocuments;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Fuzzy term index built: {} todos, {} distinct words", newDocuments.size(), newPostings.size());
+    }
+
+    private static void apply(BkTree targetTerms, Map<String, Set<UUID>> targetPostings,
+                              Map<UUID, IndexedTodo> targetDocuments, TodoChangedEvent event) {
+        removeInternal(targetPostings, targetDocuments, event.getId());
+        if (!event.isDeletion()) {
+            TodoDTO after = event.getAfter();
+            addInternal(targetTerms, targetPostings, targetDocuments,
+                    after.getId(), after.getTodo(), after.getDescription(), after.getStatus());
+        }
+    }
+
+    private static void addInternal(BkTree targetTerms, Map<String, Set<UUID>> targetPostings,
+                                    Map<UUID, IndexedTodo> targetDocuments,
+                                    UUID id, String todo, String description, Status status) {
+        Set<String> docWords = words(todo);
+        docWords.addAll(words(description));
+        targetDocuments.put(id, new IndexedTodo(docWords, status, todo == null ? "" : todo.toLowerCase(Locale.ROOT)));
+        for (String word : docWords) {
+            targetPostings.computeIfAbsent(word, key -> {
+                targetTerms.add(key);
+                return new HashSet<>();
+            }).add(id);
+        }
+    }
+
+    /**
+     * Drop the todo and every posting list it leaves empty. The words themselves stay in the
+     * BK-tree; a word added again later finds itself already there.
+     */
+    private static void removeInternal(Map<String, Set<UUID>> targetPostings,
+                                       Map<UUID, IndexedTodo> targetDocuments, UUID id) {
+        IndexedTodo previous = targetDocuments.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String word : previous.words()) {
+            Set<UUID> ids = targetPostings.get(word);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    targetPostings.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Edits allowed for a query word, growing with its length so short words stay precise.
+     */
+    static int maxDistance(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        if (text == null) {
+            return result;
+        }
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    private static int[] newDistances(int size) {
+        int[] distances = new int[size];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        return distances;
+    }
+
+    static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j] + 1, current[j - 1] + 1));
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private record IndexedTodo(Set<String> words, Status status, String sortTitle) {
+    }
+
+    /**
+     * Burkhard-Keller tree: each child hangs off its parent under their Levenshtein distance, so
+     * by the triangle inequality a search radius {@code k} around distance {@code d} bounds the
+     * children worth visiting.
+     */
+    private static final class BkTree {
+
+        private Node root;
+        private int size;
+
+        static BkTree of(Iterable<String> words) {
+            BkTree tree = new BkTree();
+            words.forEach(tree::add);
+            return tree;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void add(String word) {
+            if (root == null) {
+                root = new Node(word);
+                size++;
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int distance = levenshtein(word, node.word);
+                if (distance == 0) {
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(word));
+                    size++;
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        /**
+         * All words within {@code maxDistance} of {@code query}, with their distance.
+         */
+        Map<String, Integer> find(String query, int maxDistance) {
+            Map<String, Integer> matches = new HashMap<>();
+            if (root == null) {
+                return matches;
+            }
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                int distance = levenshtein(query, node.word);
+                if (distance <= maxDistance) {
+                    matches.put(node.word, distance);
+                }
+                for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+                    Node child = node.children.get(edge);
+                    if (child != null) {
+                        pending.push(child);
+                    }
+                }
+            }
+            return matches;
+        }
+    }
+
+    private static final class Node {
+
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over todos for relevance-ranked search.
+ * <p>
+ * Titles and descriptions are analyzed with {@link EnglishAnalyzer} (lower-casing, stop words,
+ * Porter stemming) and scored with Lucene's default BM25 similarity, titles boosted over
+ * descriptions. The index lives in an on-disk {@link MMapDirectory}; committed
+ * {@link TodoChangedEvent}s are written through the {@link IndexWriter} and made searchable
+ * right away by refreshing the near-real-time {@link SearcherManager}, while durable commits
+ * happen periodically and on shutdown.
+ * <p>
+ * On {@link TodoDataLoadedEvent}, and periodically afterwards, the stored fields are compared
+ * with the database; any difference (missed writes, an index left over from another database)
+ * triggers a full reindex from {@link TodoRepository#streamAll()}. Both stream DTOs, so no entity
+ * piles up in the persistence context, and the check looks rows up in the index a chunk at a time.
+ * The rebuild happens in the same writer, so while it runs changes are buffered instead of applied
+ * and nothing refreshes the searcher: ranked searches keep reading the previous snapshot, and the
+ * buffered changes are replayed over the streamed rows before the rebuilt index is published.
+ */
+@Component
+@Slf4j
+public class LuceneTodoIndex {
+
+    static final String ID = "id";
+    static final String TODO = "todo";
+    static final String DESCRIPTION = "description";
+    static final String STATUS = "status";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int CONSISTENCY_CHUNK_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+    private volatile boolean dataLoaded;
+    /**
+     * Changes committed while a rebuild runs, {@code null} otherwise. Many committing threads
+     * append under the shared read lock, hence a concurrent queue; the rebuild swaps it under the
+     * write lock, when nobody is appending.
+     */
+    private volatile Queue<TodoChangedEvent> changesDuringRebuild;
+
+    public LuceneTodoIndex(TodoRepository todoRepository,
+                           @Value("${todo.lucene.directory:data/lucene}") Path indexPath) throws IOException {
+        this.todoRepository = todoRepository;
+        Files.createDirectories(indexPath);
+        this.directory = new MMapDirectory(indexPath);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * One page of todos matching every analyzed word of {@code keyword} in the title or
+     * description, best BM25 score first.
+     *
+     * @return the page of ids with the total number of hits, or an empty optional while the
+     * index has not been verified or rebuilt yet
+     */
+    public Optional<Hits> search(String keyword, Status status, int offset, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        try {
+            Query query = buildQuery(keyword, status);
+            if (query == null) {
+                return Optional.of(new Hits(List.of(), 0));
+            }
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, Math.max(1, offset + limit));
+                StoredFields storedFields = searcher.storedFields();
+                List<UUID> ids = new ArrayList<>(Math.max(0, topDocs.scoreDocs.length - offset));
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc hit = topDocs.scoreDocs[i];
+                    ids.add(UUID.fromString(storedFields.document(hit.doc).get(ID)));
+                }
+                return Optional.of(new Hits(ids, searcher.count(query)));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene search failed", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+                return;
+            }
+            apply(event);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            // The periodic consistency check repairs the index
+            log.error("Failed to apply todo change {} to the Lucene index", event.getId(), e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Start serving from the on-disk index if it matches the database, otherwise rebuild it first.
+     */
+    @EventListener(TodoDataLoadedEvent.class)
+    @Transactional(readOnly = true)
+    public void onDataLoaded() {
+        dataLoaded = true;
+        verify();
+    }
+
+    @Scheduled(initialDelayString = "${todo.lucene.consistency-check-interval:PT1H}",
+               fixedDelayString = "${todo.lucene.consistency-check-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public void checkConsistency() {
+        if (dataLoaded) {
+            verify();
+        }
+    }
+
+    /**
+     * Rebuild the index from the database. Readers keep seeing the previous snapshot until
+     * the rebuilt one is committed and refreshed; changes committed meanwhile are buffered and
+     * replayed afterwards, so they win over the rows streamed before them. If the rebuild fails,
+     * ranked search is switched off until the next consistency check rebuilds it.
+     */
+    @Transactional(readOnly = true)
+    public synchronized void reindex() {
+        startBuffering();
+        boolean rebuilt = false;
+        try {
+            writer.deleteAll();
+            long count = 0;
+            try (Stream<TodoDTO> todos = PrimaryReads.call(todoRepository::streamAll)) {
+                for (TodoDTO todo : (Iterable<TodoDTO>) todos::iterator) {
+                    writer.updateDocument(new Term(ID, todo.getId().toString()),
+                            toDocument(todo.getId(), todo.getTodo(), todo.getDescription(), todo.getStatus()));
+                    count++;
+                }
+            }
+            rebuilt = true;
+            log.info("Lucene index rebuilt: {} todos", count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene reindex failed", e);
+        } finally {
+            ready = rebuilt;
+            replayBuffered();
+        }
+        try {
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene reindex failed", e);
+        }
+    }
+
+    /**
+     * Compare every database row with its indexed document, {@value #CONSISTENCY_CHUNK_SIZE} rows
+     * at a time, then the number of rows with the number of documents.
+     *
+     * @return whether the index holds exactly the todos of the database with the same content
+     */
+    @Transactional(readOnly = true)
+    public synchronized boolean isConsistent() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                long rows = 0;
+                List<TodoDTO> chunk = new ArrayList<>(CONSISTENCY_CHUNK_SIZE);
+                try (Stream<TodoDTO> todos = PrimaryReads.call(todoRepository::streamAll)) {
+                    for (TodoDTO todo : (Iterable<TodoDTO>) todos::iterator) {
+                        chunk.add(todo);
+                        rows++;
+                        if (chunk.size() == CONSISTENCY_CHUNK_SIZE) {
+                            if (!matches(searcher, chunk)) {
+                                return false;
+                            }
+                            chunk.clear();
+                        }
+                    }
+                }
+                if (!matches(searcher, chunk)) {
+                    return false;
+                }
+                int documents = searcher.getIndexReader().numDocs();
+                if (rows != documents) {
+                    log.warn("Lucene index holds {} todos that are no longer in the database", documents - rows);
+                    return false;
+                }
+                return true;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.error("Lucene consistency check failed", e);
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.lucene.commit-interval:PT1M}")
+    public void commit() {
+        rebuildLock.readLock().lock();
+        try {
+            // A half-rebuilt index is committed by the rebuild itself once complete
+            if (changesDuringRebuild == null && writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.error("Failed to commit the Lucene index", e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        ready = false;
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void verify() {
+        if (isConsistent()) {
+            ready = true;
+        } else {
+            reindex();
+        }
+    }
+
+    private void startBuffering() {
+        rebuildLock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ConcurrentLinkedQueue<>();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private void replayBuffered() {
+        rebuildLock.writeLock().lock();
+        try {
+            for (TodoChangedEvent event : changesDuringRebuild) {
+                try {
+                    apply(event);
+                } catch (IOException e) {
+                    log.error("Failed to apply todo change {} to the Lucene index", event.getId(), e);
+                }
+            }
+            changesDuringRebuild = null;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private void apply(TodoChangedEvent event) throws IOException {
+        if (event.isDeletion()) {
+            writer.deleteDocuments(new Term(ID, event.getId().toString()));
+        } else {
+            TodoDTO after = event.getAfter();
+            writer.updateDocument(new Term(ID, after.getId().toString()),
+                    toDocument(after.getId(), after.getTodo(), after.getDescription(), after.getStatus()));
+        }
+    }
+
+    private Query buildQuery(String keyword, Status status) throws IOException {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            // Every word must occur, in the title (boosted) or the description
+            query.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TODO, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(TODO, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        }
+        return terms;
+    }
+
+    /**
+     * @return whether every todo of {@code chunk} is indexed with its current content
+     */
+    private boolean matches(IndexSearcher searcher, List<TodoDTO> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return true;
+        }
+        List<BytesRef> ids = chunk.stream().map(todo -> new BytesRef(todo.getId().toString())).toList();
+        TopDocs topDocs = searcher.search(new TermInSetQuery(ID, ids), chunk.size());
+        StoredFields storedFields = searcher.storedFields();
+        Map<String, IndexedFields> indexed = new HashMap<>(topDocs.scoreDocs.length * 2);
+        for (ScoreDoc hit : topDocs.scoreDocs) {
+            Document document = storedFields.document(hit.doc);
+            indexed.put(document.get(ID), new IndexedFields(
+                    document.get(TODO), document.get(DESCRIPTION), document.get(STATUS)));
+        }
+        for (TodoDTO todo : chunk) {
+            IndexedFields fields = indexed.get(todo.getId().toString());
+            if (fields == null || !fields.matches(todo)) {
+                log.warn("Lucene index is out of date for todo {}", todo.getId());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Document toDocument(UUID id, String todo, String description, Status status) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        if (todo != null) {
+            document.add(new TextField(TODO, todo, Field.Store.YES));
+        }
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.YES));
+        }
+        if (status != null) {
+            document.add(new StringField(STATUS, status.name(), Field.Store.YES));
+        }
+        return document;
+    }
+
+    /**
+     * A page of ranked ids and the total number of matching todos.
+     */
+    public record Hits(List<UUID> ids, long totalHits) {
+    }
+
+    private record IndexedFields(String todo, String description, String status) {
+
+        boolean matches(TodoDTO row) {
+            return Objects.equals(todo, row.getTodo())
+                    && Objects.equals(description, row.getDescription())
+                    && Objects.equals(status, row.getStatus() != null ? row.getStatus().name() : null);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.PostgresTodoSearchRepository;
+import dev.hieu.springboothelloworld.repository.StatusCount;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.repository.TodoSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * PostgreSQL search: keyword queries run as {@code ILIKE} statements that the
+ * {@code pg_trgm} GIN indexes on {@code todo} and {@code description} can serve
+ * (see {@code db/migration/postgresql}). Status-only queries use the portable JPQL queries.
+ */
+@Component
+@Profile("postgres")
+@RequiredArgsConstructor
+public class PostgresTodoSearchStrategy implements TodoSearchStrategy {
+
+    private final TodoRepository todoRepository;
+    private final PostgresTodoSearchRepository searchRepository;
+
+    @Override
+    public List<TodoDTO> search(String keyword, Status status) {
+        return keyword == null
+                ? todoRepository.searchTodos(null, status)
+                : searchRepository.searchTodos(toPattern(keyword), status);
+    }
+
+    @Override
+    public Page<TodoDTO> search(String keyword, Status status, Pageable pageable) {
+        return keyword == null
+                ? todoRepository.searchTodos(null, status, pageable)
+                : searchRepository.searchTodos(toPattern(keyword), status, pageable);
+    }
+
+    @Override
+    public Slice<TodoDTO> searchSlice(String keyword, Status status, Pageable pageable) {
+        if (keyword == null) {
+            return status == null ? todoRepository.findSliceBy(pageable) : todoRepository.findSliceByStatus(status, pageable);
+        }
+        return searchRepository.searchTodosSlice(toPattern(keyword), status, pageable);
+    }
+
+    @Override
+    public Stream<TodoDTO> stream(String keyword, Status status) {
+        return keyword == null
+                ? todoRepository.streamTodos(null, status)
+                : searchRepository.streamTodos(toPattern(keyword), status);
+    }
+
+    @Override
+    public Map<Status, Long> countByStatus(String keyword) {
+        return StatusCount.toMap(keyword == null
+                ? todoRepository.countByStatus()
+                : searchRepository.countByStatus(toPattern(keyword)));
+    }
+
+    /**
+     * Criteria counterpart of the HQL queries: Hibernate renders {@code ilike} as PostgreSQL's
+     * {@code ILIKE}, so keyset scrolling is served by the same trigram indexes.
+     */
+    @Override
+    public Specification<Todo> toSpecification(String keyword, Status status) {
+        Specification<Todo> keywordFilter = TodoSpecifications.all();
+        if (keyword != null) {
+            String pattern = toPattern(keyword);
+            keywordFilter = (root, query, cb) -> {
+                HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+                return cb.or(hcb.ilike(root.get("todo"), pattern), hcb.ilike(root.get("description"), pattern));
+            };
+        }
+        return keywordFilter.and(TodoSpecifications.hasStatus(status));
+    }
+
+    /**
+     * Same pattern the JPQL query builds with {@code CONCAT('%', :keyword, '%')}; wildcards typed
+     * by the user keep their LIKE meaning so both strategies return the same rows.
+     */
+    private static String toPattern(String keyword) {
+        return "%" + keyword + "%";
+    }
+}
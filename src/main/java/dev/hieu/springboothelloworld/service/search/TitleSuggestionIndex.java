@@ -0,0 +1,175 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Sorted in-memory set of todo titles for typeahead suggestions.
+ * <p>
+ * Titles are kept in a {@link ConcurrentSkipListMap} keyed by the lower-cased title followed by
+ * the original one, so a prefix lookup is a range scan starting at the prefix: {@code O(log n)}
+ * to find the first match plus one step per suggestion. The value counts how many todos carry the
+ * title, so removing one of several duplicates keeps the suggestion.
+ * <p>
+ * Like {@link TrigramIndex} it is rebuilt on {@link TodoDataLoadedEvent} and kept in sync through
+ * committed {@link TodoChangedEvent}s, so suggestions never touch the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TitleSuggestionIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final TodoRepository todoRepository;
+
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private volatile ConcurrentSkipListMap<String, Integer> titles = new ConcurrentSkipListMap<>();
+    /**
+     * Changes committed while a rebuild streams the database, {@code null} otherwise. Committing
+     * threads append under the shared read lock; the rebuild replays and clears it under the write
+     * lock.
+     */
+    private volatile Queue<TodoChangedEvent> changesDuringRebuild;
+
+    /**
+     * Titles starting with {@code prefix} (ignoring case), in alphabetical order.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit < 1) {
+            return List.of();
+        }
+        String from = normalize(prefix);
+        ConcurrentNavigableMap<String, Integer> matches =
+                titles.subMap(from, true, from + Character.MAX_VALUE, false);
+
+        List<String> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (String key : matches.keySet()) {
+            suggestions.add(key.substring(key.indexOf(SEPARATOR) + 1));
+            if (suggestions.size() == limit) {
+                break;
+            }
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return titles.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        String before = titleOf(event.getBefore());
+        String after = titleOf(event.getAfter());
+        rebuildLock.readLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+            if (Objects.equals(before, after)) {
+                return;
+            }
+            ConcurrentSkipListMap<String, Integer> current = titles;
+            if (before != null) {
+                current.computeIfPresent(key(before), (key, count) -> count > 1 ? count - 1 : null);
+            }
+            if (after != null) {
+                current.merge(key(after), 1, Integer::sum);
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the titles from the database while the previous ones keep serving suggestions.
+     * The stream is collected per todo id so changes committed meanwhile can be replayed as plain
+     * overwrites: the stream may or may not have seen them already, and counting them as deltas
+     * would count those twice.
+     */
+    @EventListener(TodoDataLoadedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ConcurrentLinkedQueue<>();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        Map<UUID, String> titlesById = new HashMap<>();
+        try {
+            try (Stream<TodoDTO> todos = PrimaryReads.call(todoRepository::streamAll)) {
+                todos.filter(todo -> todo.getTodo() != null)
+                        .forEach(todo -> titlesById.put(todo.getId(), todo.getTodo()));
+            }
+        } catch (RuntimeException e) {
+            stopBuffering();
+            throw e;
+        }
+
+        rebuildLock.writeLock().lock();
+        try {
+            for (TodoChangedEvent event : changesDuringRebuild) {
+                String after = titleOf(event.getAfter());
+                if (after == null) {
+                    titlesById.remove(event.getId());
+                } else {
+                    titlesById.put(event.getId(), after);
+                }
+            }
+            ConcurrentSkipListMap<String, Integer> rebuilt = new ConcurrentSkipListMap<>();
+            titlesById.values().forEach(title -> rebuilt.merge(key(title), 1, Integer::sum));
+            titles = rebuilt;
+            changesDuringRebuild = null;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        log.info("Title suggestion index built: {} distinct titles", titles.size());
+    }
+
+    private void stopBuffering() {
+        rebuildLock.writeLock().lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private static String key(String title) {
+        return normalize(title) + SEPARATOR + title;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String titleOf(TodoDTO todo) {
+        return todo != null ? todo.getTodo() : null;
+    }
+}
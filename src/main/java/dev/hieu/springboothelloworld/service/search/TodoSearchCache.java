@@ -0,0 +1,133 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of paginated search results, keyed by normalized keyword, status, page, size,
+ * sort and count mode.
+ * <p>
+ * Entries expire by size and TTL, and a committed {@link TodoChangedEvent} evicts exactly the
+ * entries whose filter the todo matched before or after the change: a todo matching neither can
+ * not enter, leave or reorder such a result. Every change also bumps a write epoch, and results
+ * computed while a change committed are not stored (see {@link #put}).
+ * <p>
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics with {@code cache=todoSearch}.
+ */
+@Component
+public class TodoSearchCache {
+
+    static final String CACHE_NAME = "todoSearch";
+
+    private final Cache<SearchKey, PageResponse<TodoDTO>> cache;
+    private final AtomicLong writeEpoch = new AtomicLong();
+
+    public TodoSearchCache(
+            @Value("${todo.search-cache.maximum-size:1000}") long maximumSize,
+            @Value("${todo.search-cache.ttl:PT30S}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @return the cached result, or {@code null} on a miss
+     */
+    public PageResponse<TodoDTO> get(SearchKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Current write epoch; read it before running the query whose result will be {@link #put}.
+     */
+    public long writeEpoch() {
+        return writeEpoch.get();
+    }
+
+    /**
+     * Store a result unless a change committed since {@code epoch} was read, since the result
+     * might then predate that change and the change's eviction already ran.
+     */
+    public void put(SearchKey key, PageResponse<TodoDTO> result, long epoch) {
+        if (writeEpoch.get() != epoch) {
+            return;
+        }
+        cache.put(key, result);
+        if (writeEpoch.get() != epoch) {
+            cache.invalidate(key);
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        writeEpoch.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.matches(event.getBefore()) || key.matches(event.getAfter()));
+    }
+
+    @EventListener(TodoDataLoadedEvent.class)
+    public void invalidateAll() {
+        writeEpoch.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Cache key. The keyword is lower-cased because both search strategies match case-insensitively;
+     * it is not trimmed, since surrounding spaces are part of the substring being searched.
+     */
+    public record SearchKey(String keyword, Status status, int page, int size, Sort sort, CountMode countMode) {
+
+        public static SearchKey of(String keyword, Status status, Pageable pageable, CountMode countMode) {
+            String normalized = keyword != null ? keyword.toLowerCase(Locale.ROOT) : null;
+            return new SearchKey(normalized, status, pageable.getPageNumber(), pageable.getPageSize(),
+                    pageable.getSort(), countMode);
+        }
+
+        /**
+         * Whether {@code todo} satisfies this key's filter, i.e. could be part of its result.
+         * Keywords holding LIKE wildcards are not evaluated and always count as a match.
+         */
+        boolean matches(TodoDTO todo) {
+            if (todo == null || (status != null && status != todo.getStatus())) {
+                return false;
+            }
+            if (keyword == null || hasWildcards(keyword)) {
+                return true;
+            }
+            return contains(todo.getTodo()) || contains(todo.getDescription());
+        }
+
+        private boolean contains(String text) {
+            return text != null && text.toLowerCase(Locale.ROOT).contains(keyword);
+        }
+
+        private static boolean hasWildcards(String value) {
+            return value.indexOf('%') >= 0 || value.indexOf('_') >= 0 || value.indexOf('\\') >= 0;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Database-specific way of answering a keyword/status search.
+ * <p>
+ * Exactly one implementation is active per profile; {@link dev.hieu.springboothelloworld.service.TodoService#searchTodos}
+ * is the single entry point and delegates here. Implementations must return the same result set:
+ * todos whose title or description contains {@code keyword} (case-insensitive) and, when given,
+ * whose status equals {@code status}. A {@code null} keyword means "no text filter".
+ * <p>
+ * Results are {@link TodoDTO}s built by JPQL constructor expressions, so searches never load
+ * managed entities.
+ */
+public interface TodoSearchStrategy {
+
+    List<TodoDTO> search(String keyword, Status status);
+
+    Page<TodoDTO> search(String keyword, Status status, Pageable pageable);
+
+    /**
+     * Offset paging without a count query: only tells whether a next page exists.
+     */
+    Slice<TodoDTO> searchSlice(String keyword, Status status, Pageable pageable);
+
+    /**
+     * All matches as a database cursor, for exports. Must be consumed inside a transaction and closed.
+     */
+    Stream<TodoDTO> stream(String keyword, Status status);
+
+    /**
+     * Number of todos matching {@code keyword} for every status (including zeros), computed with a
+     * single grouped query. This is the facet breakdown of {@link #search(String, Status, Pageable)}
+     * across all values of its status filter.
+     */
+    Map<Status, Long> countByStatus(String keyword);
+
+    /**
+     * The same filter as a {@link Specification}, for queries whose paging is not offset based
+     * (keyset scrolling).
+     */
+    Specification<Todo> toSpecification(String keyword, Status status);
+}
@@ -0,0 +1,252 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process trigram inverted index over {@code Todo.todo} and {@code Todo.description}.
+ * <p>
+ * Every lower-cased field is split into overlapping 3-character grams, and each gram maps to the
+ * ids of the todos containing it. A substring query is answered by intersecting the posting lists
+ * of the keyword's grams (smallest first) and then verifying the surviving candidates against the
+ * stored text, so the result is exactly what {@code LOWER(field) LIKE '%keyword%'} would return.
+ * <p>
+ * The index is rebuilt from the database on {@link TodoDataLoadedEvent} and kept in sync through
+ * {@link TodoChangedEvent}s after each commit. PostgreSQL serves the same queries from
+ * {@code pg_trgm} indexes instead, so the index is not built for the {@code postgres} profile.
+ */
+@Component
+@Profile("!postgres")
+@RequiredArgsConstructor
+@Slf4j
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final TodoRepository todoRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Set<UUID>> postings = new HashMap<>();
+    private Map<UUID, IndexedText> documents = new HashMap<>();
+    private volatile boolean ready;
+    /**
+     * Changes committed while a rebuild streams the database, {@code null} otherwise. They are
+     * applied to the live structures right away and replayed onto the rebuilt ones before the
+     * swap; guarded by the write lock.
+     */
+    private List<TodoChangedEvent> changesDuringRebuild;
+
+    /**
+     * Find the ids of all todos whose title or description contains {@code keyword}, ignoring case.
+     *
+     * @return the matching ids, or an empty optional when the index cannot answer the query
+     * (not built yet, keyword shorter than a trigram, or keyword containing LIKE wildcards)
+     * and the caller should fall back to the database
+     */
+    public Optional<Set<UUID>> search(String keyword) {
+        if (!ready || keyword == null || !isIndexable(keyword)) {
+            return Optional.empty();
+        }
+        String needle = normalize(keyword);
+        Set<String> grams = trigrams(needle);
+
+        lock.readLock().lock();
+        try {
+            List<Set<UUID>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Set<UUID> ids = postings.get(gram);
+                if (ids == null) {
+                    return Optional.of(Collections.emptySet());
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            Set<UUID> matches = new HashSet<>();
+            for (UUID candidate : lists.get(0)) {
+                if (containsAll(lists, candidate) && documents.get(candidate).contains(needle)) {
+                    matches.add(candidate);
+                }
+            }
+            return Optional.of(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(postings, documents, event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the database. The new structures are built off to the side and
+     * swapped in at the end so searches keep being served (or fall back) while this runs; changes
+     * committed meanwhile are replayed onto them first, so they win over the rows streamed before.
+     */
+    @EventListener(TodoDataLoadedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Map<String, Set<UUID>> newPostings = new HashMap<>();
+        Map<UUID, IndexedText> newDocuments = new HashMap<>();
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            try (Stream<TodoDTO> todos = PrimaryReads.call(todoRepository::streamAll)) {
+                todos.forEach(todo -> addInternal(newPostings, newDocuments,
+                        todo.getId(), todo.getTodo(), todo.getDescription()));
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (TodoChangedEvent event : changesDuringRebuild) {
+                    apply(newPostings, newDocuments, event);
+                }
+                postings = newPostings;
+                documents = newDocuments;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Trigram index built: {} todos, {} distinct trigrams", newDocuments.size(), newPostings.size());
+    }
+
+    private void apply(Map<String, Set<UUID>> targetPostings, Map<UUID, IndexedText> targetDocuments,
+                       TodoChangedEvent event) {
+        removeInternal(targetPostings, targetDocuments, event.getId());
+        if (!event.isDeletion()) {
+            TodoDTO after = event.getAfter();
+            addInternal(targetPostings, targetDocuments, after.getId(), after.getTodo(), after.getDescription());
+        }
+    }
+
+    private void addInternal(Map<String, Set<UUID>> targetPostings, Map<UUID, IndexedText> targetDocuments,
+                             UUID id, String todo, String description) {
+        IndexedText text = new IndexedText(normalize(todo), normalize(description));
+        targetDocuments.put(id, text);
+        for (String gram : text.trigrams()) {
+            targetPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeInternal(Map<String, Set<UUID>> targetPostings, Map<UUID, IndexedText> targetDocuments,
+                                UUID id) {
+        IndexedText previous = targetDocuments.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.trigrams()) {
+            Set<UUID> ids = targetPostings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    targetPostings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static boolean containsAll(List<Set<UUID>> lists, UUID candidate) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Only keywords that are at least one trigram long and free of LIKE meta characters can be
+     * answered with exactly the same semantics as the JPQL query.
+     */
+    private static boolean isIndexable(String keyword) {
+        return keyword.length() >= GRAM_LENGTH
+                && keyword.indexOf('%') < 0
+                && keyword.indexOf('_') < 0
+                && keyword.indexOf('\\') < 0;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private record IndexedText(String todo, String description) {
+
+        boolean contains(String needle) {
+            return todo.contains(needle) || description.contains(needle);
+        }
+
+        Set<String> trigrams() {
+            Set<String> grams = TrigramIndex.trigrams(todo);
+            grams.addAll(TrigramIndex.trigrams(description));
+            return grams;
+        }
+    }
+}
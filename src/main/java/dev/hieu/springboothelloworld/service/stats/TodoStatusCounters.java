@@ -0,0 +1,159 @@
+package dev.hieu.springboothelloworld.service.stats;
+
+import dev.hieu.springboothelloworld.configuration.datasource.PrimaryReads;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.StatusCount;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Number of todos per {@link Status}, kept in memory so status-only and unfiltered listings can
+ * report their total without a {@code COUNT(*)}.
+ * <p>
+ * The counters are loaded with one {@code GROUP BY} query on {@link TodoDataLoadedEvent}, moved
+ * by every committed {@link TodoChangedEvent}, and periodically reconciled with the database to
+ * repair drift from writes that bypass the service (or race with a reload).
+ * <p>
+ * Reconciling never replaces the live counters: a write committing around the {@code GROUP BY}
+ * would either lose its event on the discarded counters or be counted twice. A difference is
+ * only trusted when the counters did not move while the database was read and the same
+ * difference is seen by two reconciles in a row, and is then added to the live counters so events
+ * delivered meanwhile are kept.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TodoStatusCounters {
+
+    private static final Status[] STATUSES = Status.values();
+
+    private final TodoRepository todoRepository;
+
+    private volatile AtomicLongArray counts = new AtomicLongArray(STATUSES.length);
+    private volatile boolean ready;
+    private long[] suspectedDrift;
+
+    /**
+     * Number of todos with {@code status}, or of all todos when {@code status} is {@code null}.
+     *
+     * @return the count, or an empty optional until the counters have been loaded
+     */
+    public OptionalLong count(Status status) {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+        AtomicLongArray current = counts;
+        if (status != null) {
+            return OptionalLong.of(Math.max(0, current.get(status.ordinal())));
+        }
+        long total = 0;
+        for (int i = 0; i < current.length(); i++) {
+            total += current.get(i);
+        }
+        return OptionalLong.of(Math.max(0, total));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        Status before = statusOf(event.getBefore());
+        Status after = statusOf(event.getAfter());
+        if (before == after) {
+            return;
+        }
+        AtomicLongArray current = counts;
+        if (before != null) {
+            current.decrementAndGet(before.ordinal());
+        }
+        if (after != null) {
+            current.incrementAndGet(after.ordinal());
+        }
+    }
+
+    @EventListener(TodoDataLoadedEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        counts = PrimaryReads.call(this::loadCounts);
+        ready = true;
+        log.info("Status counters loaded: {}", counts);
+    }
+
+    /**
+     * Compare the counters with the database and correct them if they drifted.
+     */
+    @Scheduled(initialDelayString = "${todo.status-counters.reconcile-interval:PT5M}",
+               fixedDelayString = "${todo.status-counters.reconcile-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public synchronized void reconcile() {
+        if (!ready) {
+            return;
+        }
+        AtomicLongArray current = counts;
+        long[] before = snapshot(current);
+        AtomicLongArray actual = PrimaryReads.call(this::loadCounts);
+        long[] after = snapshot(current);
+        if (!Arrays.equals(before, after)) {
+            // Writes committed while the database was read: the comparison proves nothing
+            suspectedDrift = null;
+            return;
+        }
+        long[] drift = new long[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            drift[i] = actual.get(i) - after[i];
+        }
+        if (Arrays.stream(drift).allMatch(difference -> difference == 0)) {
+            suspectedDrift = null;
+            return;
+        }
+        if (!Arrays.equals(drift, suspectedDrift)) {
+            // May still be an event on its way from a commit the query already saw
+            suspectedDrift = drift;
+            log.debug("Status counters differ from the database by {}, confirming on the next reconcile",
+                    Arrays.toString(drift));
+            return;
+        }
+        log.warn("Status counters drifted from the database by {}, correcting", Arrays.toString(drift));
+        for (int i = 0; i < STATUSES.length; i++) {
+            current.addAndGet(i, drift[i]);
+        }
+        suspectedDrift = null;
+    }
+
+    private static long[] snapshot(AtomicLongArray counts) {
+        long[] values = new long[counts.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = counts.get(i);
+        }
+        return values;
+    }
+
+    private AtomicLongArray loadCounts() {
+        AtomicLongArray loaded = new AtomicLongArray(STATUSES.length);
+        for (StatusCount row : todoRepository.countByStatus()) {
+            if (row.getStatus() != null) {
+                loaded.set(row.getStatus().ordinal(), row.getCount());
+            }
+        }
+        return loaded;
+    }
+
+    private static Status statusOf(TodoDTO todo) {
+        return todo != null ? todo.getStatus() : null;
+    }
+}
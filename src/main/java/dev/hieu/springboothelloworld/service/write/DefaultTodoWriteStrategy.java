@@ -0,0 +1,92 @@
+package dev.hieu.springboothelloworld.service.write;
+
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import dev.hieu.springboothelloworld.exception.ConflictException;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Portable writes: the previous state is read as a DTO projection (listeners need it), then a
+ * single JPQL {@code UPDATE}/{@code DELETE} changes the row. No entity is loaded or dirty-checked.
+ * <p>
+ * The statement only applies to the version that was read, so a write committed in between
+ * cannot make the published previous state, or the new state derived from it, stale. Without
+ * an expected version from the client the write is retried on the fresh row; each retry means
+ * another write to the todo succeeded. After {@value #MAX_ATTEMPTS} lost races the write gives up
+ * with a {@link ConflictException} rather than holding the request thread and its connection
+ * for as long as the todo stays contended.
+ * <p>
+ * Hibernate cannot tell which row a JPQL {@code UPDATE}/{@code DELETE} touched, so each of these
+ * writes invalidates the whole {@code todo} second-level cache region, not just the changed
+ * todo. With write-heavy traffic on these databases the region mostly serves reads between
+ * writes; {@link PostgresTodoWriteStrategy} evicts per todo instead.
+ */
+@Component
+@Profile("!postgres")
+@RequiredArgsConstructor
+public class DefaultTodoWriteStrategy implements TodoWriteStrategy {
+
+    static final int MAX_ATTEMPTS = 5;
+
+    private final TodoRepository todoRepository;
+
+    @Override
+    public Optional<Change> update(UUID id, TodoUpdateDTO todoUpdateDTO, Long expectedVersion) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<TodoDTO> before = todoRepository.findDtoById(id);
+            if (before.isEmpty() || (expectedVersion != null && !expectedVersion.equals(before.get().getVersion()))) {
+                return Optional.empty();
+            }
+            LocalDateTime now = LocalDateTime.now();
+            int updated = todoRepository.updateFields(id, todoUpdateDTO.getTodo(), todoUpdateDTO.getDescription(),
+                    todoUpdateDTO.getStatus(), todoUpdateDTO.getDueAt(), now, before.get().getVersion());
+            if (updated == 1) {
+                return Optional.of(new Change(before.get(), applyUpdate(before.get(), todoUpdateDTO, now)));
+            }
+            if (expectedVersion != null) {
+                // Changed since it was read: the client's version is no longer current
+                return Optional.empty();
+            }
+        }
+        throw contended(id);
+    }
+
+    @Override
+    public Optional<TodoDTO> delete(UUID id) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<TodoDTO> before = todoRepository.findDtoById(id);
+            if (before.isEmpty() || todoRepository.deleteAtVersion(id, before.get().getVersion()) == 1) {
+                return before;
+            }
+        }
+        throw contended(id);
+    }
+
+    private static ConflictException contended(UUID id) {
+        return new ConflictException(String.format(
+                "Todo '%s' kept changing during %d attempts to write it; retry the request", id, MAX_ATTEMPTS));
+    }
+
+    /**
+     * The state {@link TodoRepository#updateFields} leaves the row in, without reading it back.
+     */
+    private static TodoDTO applyUpdate(TodoDTO before, TodoUpdateDTO update, LocalDateTime now) {
+        return new TodoDTO(
+                before.getId(),
+                update.getTodo() != null ? update.getTodo() : before.getTodo(),
+                update.getDescription() != null ? update.getDescription() : before.getDescription(),
+                update.getStatus() != null ? update.getStatus() : before.getStatus(),
+                before.getCreatedAt(),
+                now,
+                update.getDueAt() != null ? update.getDueAt() : before.getDueAt(),
+                TodoDTO.nextVersion(before.getVersion())
+        );
+    }
+}
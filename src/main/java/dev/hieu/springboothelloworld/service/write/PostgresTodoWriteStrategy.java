@@ -0,0 +1,152 @@
+package dev.hieu.springboothelloworld.service.write;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * PostgreSQL writes in one round trip each: {@code UPDATE ... RETURNING} hands back the row
+ * before and after the change, {@code DELETE ... RETURNING} the deleted row. The previous values
+ * come from a {@code FOR UPDATE} subquery, so they are the ones the update actually replaced.
+ * <p>
+ * Hibernate reads these statements as queries and does not know they wrote, so the strategy
+ * does what Hibernate does around its own entity updates: the todo's second-level cache entry is
+ * soft-locked before the statement runs and released when the transaction completes. A
+ * concurrent load that read the old row cannot put it back in the meantime, and the entry is
+ * reloaded from the database afterwards. Unlike JPQL bulk statements, this leaves the other
+ * cached todos alone. Cached query results are dropped once the change commits.
+ */
+@Component
+@Profile("postgres")
+public class PostgresTodoWriteStrategy implements TodoWriteStrategy {
+
+    private static final String UPDATE_RETURNING = """
+            UPDATE todo t SET
+                todo = COALESCE(CAST(:todo AS varchar), t.todo),
+                description = COALESCE(CAST(:description AS varchar), t.description),
+                status = COALESCE(CAST(:status AS varchar), t.status),
+                due_at = COALESCE(CAST(:dueAt AS timestamp), t.due_at),
+                last_updated_at = :lastUpdatedAt,
+                version = t.version + 1
+            FROM (SELECT * FROM todo WHERE id = :id FOR UPDATE) old
+            WHERE t.id = old.id AND (CAST(:version AS bigint) IS NULL OR old.version = CAST(:version AS bigint))
+            RETURNING old.todo AS old_todo, old.description AS old_description, old.status AS old_status,
+                old.last_updated_at AS old_last_updated_at, old.due_at AS old_due_at, old.version AS old_version,
+                t.id, t.todo, t.description, t.status, t.created_at, t.last_updated_at, t.due_at, t.version
+            """;
+
+    private static final String DELETE_RETURNING = """
+            DELETE FROM todo WHERE id = :id
+            RETURNING id, todo, description, status, created_at, last_updated_at, due_at, version
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Change> update(UUID id, TodoUpdateDTO todoUpdateDTO, Long expectedVersion) {
+        lockCacheEntry(id);
+        // Typed binding, so that null (field not updated) is sent with the column's SQL type
+        NativeQuery<?> query = entityManager.createNativeQuery(UPDATE_RETURNING)
+                .unwrap(NativeQuery.class)
+                .setParameter("id", id, UUID.class)
+                .setParameter("todo", todoUpdateDTO.getTodo(), String.class)
+                .setParameter("description", todoUpdateDTO.getDescription(), String.class)
+                .setParameter("status", todoUpdateDTO.getStatus() != null ? todoUpdateDTO.getStatus().name() : null, String.class)
+                .setParameter("dueAt", todoUpdateDTO.getDueAt(), LocalDateTime.class)
+                .setParameter("lastUpdatedAt", LocalDateTime.now(), LocalDateTime.class)
+                .setParameter("version", expectedVersion, Long.class)
+                .addScalar("old_todo", String.class)
+                .addScalar("old_description", String.class)
+                .addScalar("old_status", String.class)
+                .addScalar("old_last_updated_at", LocalDateTime.class)
+                .addScalar("old_due_at", LocalDateTime.class)
+                .addScalar("old_version", Long.class);
+        addTodoScalars(query);
+
+        List<?> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = (Object[]) rows.get(0);
+        TodoDTO after = toDTO(row, 6);
+        TodoDTO before = new TodoDTO(after.getId(), (String) row[0], (String) row[1], toStatus(row[2]),
+                after.getCreatedAt(), (LocalDateTime) row[3], (LocalDateTime) row[4], (Long) row[5]);
+        return Optional.of(new Change(before, after));
+    }
+
+    @Override
+    public Optional<TodoDTO> delete(UUID id) {
+        lockCacheEntry(id);
+        NativeQuery<?> query = entityManager.createNativeQuery(DELETE_RETURNING)
+                .unwrap(NativeQuery.class)
+                .setParameter("id", id, UUID.class);
+        addTodoScalars(query);
+
+        List<?> rows = query.getResultList();
+        return rows.isEmpty() ? Optional.empty() : Optional.of(toDTO((Object[]) rows.get(0), 0));
+    }
+
+    private void lockCacheEntry(UUID id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor sessionFactory = session.getFactory();
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Todo.class);
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        if (cacheAccess == null) {
+            return;
+        }
+        Object key = cacheAccess.generateCacheKey(id, persister, sessionFactory, session.getTenantIdentifier());
+        SoftLock lock = cacheAccess.lockItem(session, key, null);
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completedSession) -> {
+            cacheAccess.unlockItem(completedSession, key, lock);
+            if (success) {
+                sessionFactory.getCache().evictDefaultQueryRegion();
+            }
+        });
+    }
+
+    private static void addTodoScalars(NativeQuery<?> query) {
+        query.addScalar("id", UUID.class)
+                .addScalar("todo", String.class)
+                .addScalar("description", String.class)
+                .addScalar("status", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("last_updated_at", LocalDateTime.class)
+                .addScalar("due_at", LocalDateTime.class)
+                .addScalar("version", Long.class);
+    }
+
+    private static TodoDTO toDTO(Object[] row, int offset) {
+        return new TodoDTO(
+                (UUID) row[offset],
+                (String) row[offset + 1],
+                (String) row[offset + 2],
+                toStatus(row[offset + 3]),
+                (LocalDateTime) row[offset + 4],
+                (LocalDateTime) row[offset + 5],
+                (LocalDateTime) row[offset + 6],
+                (Long) row[offset + 7]
+        );
+    }
+
+    private static Status toStatus(Object status) {
+        return status != null ? Status.valueOf((String) status) : null;
+    }
+}
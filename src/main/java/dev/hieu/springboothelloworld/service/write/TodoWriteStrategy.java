@@ -0,0 +1,36 @@
+package dev.hieu.springboothelloworld.service.write;
+
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Single-todo writes issued as modifying statements instead of loading, dirty-checking and
+ * saving the entity. Whether a row was affected decides whether the todo exists.
+ */
+public interface TodoWriteStrategy {
+
+    /**
+     * Apply the non-null fields of {@code todoUpdateDTO} to the todo, set its {@code lastUpdatedAt}
+     * and increment its version.
+     *
+     * @param expectedVersion the version the todo must be at, or {@code null} to update any version
+     * @return the todo before and after the update, or an empty optional when no todo has this id
+     * or it is at another version than {@code expectedVersion}
+     * @throws dev.hieu.springboothelloworld.exception.ConflictException when other writes to the
+     * todo keep winning and an implementation that retries gives up
+     */
+    Optional<Change> update(UUID id, TodoUpdateDTO todoUpdateDTO, Long expectedVersion);
+
+    /**
+     * @return the last state of the deleted todo, or an empty optional when no todo has this id
+     * @throws dev.hieu.springboothelloworld.exception.ConflictException when other writes to the
+     * todo keep winning and an implementation that retries gives up
+     */
+    Optional<TodoDTO> delete(UUID id);
+
+    record Change(TodoDTO before, TodoDTO after) {
+    }
+}
@@ -0,0 +1,144 @@
+package dev.hieu.springboothelloworld.web;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Parses the {@code sort} request parameter shared by the todo API and the todo pages.
+ * <p>
+ * A sort spec is one or more {@code property,direction} keys separated by {@code ;}, for example
+ * {@code status,asc;dueAt,asc}. {@code dueAt} is the only nullable sort key and takes an optional
+ * third part, {@code nullsFirst} or {@code nullsLast}. Without it todos with no due date come last
+ * ascending and first descending, as if they were due after every other todo, which is the order
+ * its index returns read either way; the null ordering is always explicit, so it does not depend
+ * on the database.
+ * <p>
+ * Only orderings listed in {@link #SORT_INDEXES} are accepted, each read straight from an index
+ * created in {@code db/migration}, so no accepted sort makes the database sort the whole table.
+ * Each index serves its ordering and the exact reverse; mixed directions would each need an
+ * index of their own, and every index on {@code todo} slows down its writes, so they are not
+ * offered.
+ * <p>
+ * MySQL has no {@code NULLS FIRST/LAST}: Hibernate emulates the null orderings MySQL does not
+ * produce natively ({@code dueAt} ascending with nulls last, descending with nulls first) with an
+ * expression no index serves, so those sorts still fall back to a filesort there.
+ */
+public final class SortParser {
+
+    /**
+     * An index and the ordering of its keys, as PostgreSQL reads them ({@code ASC} implies
+     * {@code NULLS LAST}, {@code DESC} implies {@code NULLS FIRST}).
+     */
+    public record SortIndex(String name, Sort keys) {
+
+        /**
+         * @return whether reading the index forwards or backwards returns rows in {@code sort} order
+         */
+        public boolean serves(Sort sort) {
+            return keys.equals(sort) || reversed(keys).equals(sort);
+        }
+
+        /**
+         * @return the orderings the index serves, as sort specs
+         */
+        public List<String> specs() {
+            return List.of(toSpec(keys), toSpec(reversed(keys)));
+        }
+    }
+
+    /**
+     * Every accepted ordering, with the index that returns rows in that order when read forwards
+     * or backwards. A backward scan flips both the direction and the null ordering of every key.
+     */
+    public static final List<SortIndex> SORT_INDEXES = List.of(
+            new SortIndex("todo_pkey", Sort.by(Sort.Order.asc("id"))),
+            new SortIndex("idx_todo_todo", Sort.by(Sort.Order.asc("todo"))),
+            new SortIndex("idx_todo_description", Sort.by(Sort.Order.asc("description"))),
+            new SortIndex("idx_todo_status_last_updated_at", Sort.by(Sort.Order.asc("status"))),
+            new SortIndex("idx_todo_created_at", Sort.by(Sort.Order.asc("createdAt"))),
+            new SortIndex("idx_todo_last_updated_at", Sort.by(Sort.Order.asc("lastUpdatedAt"))),
+            new SortIndex("idx_todo_due_at", Sort.by(Sort.Order.asc("dueAt").nullsLast())),
+            new SortIndex("idx_todo_status_last_updated_at",
+                    Sort.by(Sort.Order.asc("status"), Sort.Order.asc("lastUpdatedAt"))),
+            new SortIndex("idx_todo_status_due_at",
+                    Sort.by(Sort.Order.asc("status"), Sort.Order.asc("dueAt").nullsLast())));
+
+    private static final String NULLABLE_PROPERTY = "dueAt";
+
+    private SortParser() {
+    }
+
+    /**
+     * @return the parsed sort, unsorted for a {@code null} or blank spec
+     * @throws IllegalArgumentException if the spec is malformed or no index serves its ordering
+     */
+    public static Sort parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        List<String> properties = new ArrayList<>();
+        for (String key : spec.split(";")) {
+            Sort.Order order = parseKey(key.split(","));
+            if (properties.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Sort property '" + order.getProperty() + "' is given twice");
+            }
+            properties.add(order.getProperty());
+            orders.add(order);
+        }
+        Sort sort = Sort.by(orders);
+        if (SORT_INDEXES.stream().noneMatch(index -> index.serves(sort))) {
+            throw new IllegalArgumentException("Unsupported sort '" + spec.trim() + "'; supported sorts: "
+                    + SORT_INDEXES.stream().flatMap(index -> index.specs().stream()).distinct().sorted().toList());
+        }
+        return sort;
+    }
+
+    private static Sort.Order parseKey(String[] parts) {
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException("Sort keys must be 'property,direction', e.g. 'status,asc;dueAt,desc'");
+        }
+        String property = parts[0].trim();
+        Sort.Direction direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                .orElseThrow(() -> new IllegalArgumentException("Invalid sort direction '" + parts[1].trim() + "'"));
+        Sort.Order order = new Sort.Order(direction, property);
+        if (!property.equals(NULLABLE_PROPERTY)) {
+            if (parts.length == 3) {
+                throw new IllegalArgumentException("Only '" + NULLABLE_PROPERTY + "' takes a null ordering");
+            }
+            return order;
+        }
+        String nullHandling = parts.length == 3 ? parts[2].trim()
+                : direction.isAscending() ? "nullsLast" : "nullsFirst";
+        return switch (nullHandling) {
+            case "nullsFirst" -> order.nullsFirst();
+            case "nullsLast" -> order.nullsLast();
+            default -> throw new IllegalArgumentException("Invalid null ordering '" + nullHandling + "'");
+        };
+    }
+
+    private static Sort reversed(Sort keys) {
+        return Sort.by(keys.stream()
+                .map(key -> new Sort.Order(key.getDirection().isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC,
+                        key.getProperty(), switch (key.getNullHandling()) {
+                            case NULLS_FIRST -> Sort.NullHandling.NULLS_LAST;
+                            case NULLS_LAST -> Sort.NullHandling.NULLS_FIRST;
+                            case NATIVE -> Sort.NullHandling.NATIVE;
+                        }))
+                .toList());
+    }
+
+    private static String toSpec(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase()
+                        + switch (order.getNullHandling()) {
+                            case NULLS_FIRST -> ",nullsFirst";
+                            case NULLS_LAST -> ",nullsLast";
+                            case NATIVE -> "";
+                        })
+                .collect(Collectors.joining(";"));
+    }
+}
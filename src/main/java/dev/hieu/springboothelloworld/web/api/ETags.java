@@ -0,0 +1,80 @@
+package dev.hieu.springboothelloworld.web.api;
+
+import dev.hieu.springboothelloworld.dto.CursorPageResponse;
+import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.exception.PreconditionFailedException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Strong ETags for todo responses, derived from todo versions rather than from the serialized
+ * body, so that {@code If-None-Match} can be answered without writing the body.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * @return the todo's version as a quoted ETag, or {@code null} if it has none
+     */
+    static String of(TodoDTO todo) {
+        return todo.getVersion() != null ? "\"" + todo.getVersion() + "\"" : null;
+    }
+
+    /**
+     * A digest of the page's position, totals and facets and of each listed todo's id and version:
+     * any change to a listed todo, or to which todos are listed, changes it.
+     */
+    static String of(PageResponse<TodoDTO> page) {
+        StringBuilder state = new StringBuilder()
+                .append(page.getPage()).append('/').append(page.getSize())
+                .append('/').append(page.getTotalElements()).append('/').append(page.getTotalPages())
+                .append('/').append(page.getTotalElementsAccuracy())
+                .append('/').append(page.getFacets());
+        return digest(state, page.getContent());
+    }
+
+    /**
+     * Like {@link #of(PageResponse)} for a keyset page: the cursor it continues with stands in for
+     * the position, so the same ids and versions followed by another next page differ too.
+     */
+    static String of(CursorPageResponse<TodoDTO> page) {
+        StringBuilder state = new StringBuilder()
+                .append(page.getSize())
+                .append('/').append(page.isHasNext()).append('/').append(page.getNextCursor());
+        return digest(state, page.getContent());
+    }
+
+    private static String digest(StringBuilder state, List<TodoDTO> content) {
+        for (TodoDTO todo : content) {
+            state.append('/').append(todo.getId()).append(':').append(todo.getVersion());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * The version a write must find, from an {@code If-Match} header holding one of our ETags.
+     *
+     * @return the version, or {@code null} when the header is absent or {@code *}
+     * @throws PreconditionFailedException when the header is not a single strong ETag of ours; weak
+     * ETags never match the strong comparison {@code If-Match} requires
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            try {
+                return Long.parseLong(etag.substring(1, etag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not an ETag of ours
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + etag + " does not match the current version");
+    }
+}
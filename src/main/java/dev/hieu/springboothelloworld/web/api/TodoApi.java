@@ -1,30 +1,45 @@
 package dev.hieu.springboothelloworld.web.api;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import dev.hieu.springboothelloworld.service.feature.FeatureFlag;
 import dev.hieu.springboothelloworld.service.feature.FeatureFlagService;
 import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.BulkDeleteResponse;
+import dev.hieu.springboothelloworld.dto.BulkResponse;
+import dev.hieu.springboothelloworld.dto.BulkUpdateResponse;
+import dev.hieu.springboothelloworld.dto.CursorPageResponse;
 import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoBulkDeleteDTO;
 import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
 import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoStatusUpdateDTO;
 import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
 import dev.hieu.springboothelloworld.service.TodoService;
+import dev.hieu.springboothelloworld.service.export.ExportFormat;
+import dev.hieu.springboothelloworld.service.export.TodoExportService;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
+import dev.hieu.springboothelloworld.web.SortParser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -41,45 +56,86 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Todo Management", description = "APIs for managing todos with pagination, sorting, and filtering")
 public class TodoApi {
 
+    private static final int MAX_BULK_ITEMS = 1000;
+
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
     private final FeatureFlagService featureFlagService;
 
     @Operation(
             summary = "Get all todos",
-            description = "Retrieve all todos with optional pagination and sorting. Supports query parameters: page (default 0), size (default 10), sort (e.g., 'todo,asc' or 'status,desc')"
+            description = "Retrieve all todos with optional pagination and sorting. Supports query parameters: page (default 0), size (default 10), sort (e.g., 'todo,asc' or 'status,asc;dueAt,asc'). " +
+                    "Passing 'cursor' (empty for the first page) switches to keyset pagination and returns a CursorPageResponse instead. " +
+                    "'count' (EXACT, ESTIMATED or NONE) skips the total count query; see totalElementsAccuracy in the response. " +
+                    "'includeArchived=true' also lists todos moved to the archive."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Successfully retrieved todos"
-            )
+                    description = "Successfully retrieved todos",
+                    content = {
+                            @Content(schema = @Schema(implementation = PageResponse.class)),
+                            @Content(schema = @Schema(implementation = CursorPageResponse.class))
+                    }
+            ),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match, in offset and cursor mode"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, unsupported sort, sort not supported in cursor mode, or cursor with includeArchived")
     })
     @GetMapping
-    public ResponseEntity<PageResponse<TodoDTO>> getAllTodos(
+    public ResponseEntity<?> getAllTodos(
             @Parameter(description = "Page number (0-indexed)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "10")
             @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sort by field and direction (e.g., 'todo,asc' or 'status,desc')", example = "todo,asc")
-            @RequestParam(required = false) String sort) {
+            @Parameter(description = "Sort keys separated by ';' (e.g., 'todo,asc' or 'status,asc;dueAt,asc'); every key of a multi-key sort has the same direction; dueAt takes an optional nullsFirst or nullsLast (default: undated todos last ascending, first descending)", example = "todo,asc")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Keyset cursor: empty for the first page, then the previous response's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "How to obtain totalElements: EXACT (count query), ESTIMATED (planner statistics) or NONE", example = "EXACT")
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @Parameter(description = "Also list archived (long completed or cancelled) todos; offset paging with an exact count only", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
 
         Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TodoDTO> response = todoService.getAllTodos(pageable);
-        return ResponseEntity.ok(response);
+        if (includeArchived) {
+            if (cursor != null) {
+                throw new IllegalArgumentException("Archived todos do not support cursor pagination");
+            }
+            return withETag(todoService.getAllTodosIncludingArchived(pageable));
+        }
+        if (cursor != null) {
+            return withETag(todoService.getAllTodos(cursor, pageable.getPageSize(), pageable.getSort()));
+        }
+        PageResponse<TodoDTO> response = count == CountMode.EXACT
+                ? todoService.getAllTodos(pageable)
+                : todoService.getAllTodos(pageable, count);
+        return withETag(response);
     }
 
     @Operation(
             summary = "Search todos",
-            description = "Search todos by keyword and/or status with pagination and sorting. Supports query parameters: keyword, status, page (default 0), size (default 10), sort (e.g., 'todo,asc')"
+            description = "Search todos by keyword and/or status with pagination and sorting. Supports query parameters: keyword, status, page (default 0), size (default 10), sort (e.g., 'todo,asc' or 'status,desc;lastUpdatedAt,desc'). " +
+                    "Passing 'cursor' (empty for the first page) switches to keyset pagination and returns a CursorPageResponse instead. " +
+                    "'count' (EXACT, ESTIMATED or NONE) skips the total count query; see totalElementsAccuracy in the response. " +
+                    "'fuzzy=true' tolerates typos in the keyword and ranks results by closeness. " +
+                    "'ranked=true' matches stemmed words of the keyword and ranks results by relevance (BM25). " +
+                    "'facets=true' adds the number of matches per status, so status badges need no extra requests. " +
+                    "'includeArchived=true' also searches todos moved to the archive."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Successfully retrieved search results"
-            )
+                    description = "Successfully retrieved search results",
+                    content = {
+                            @Content(schema = @Schema(implementation = PageResponse.class)),
+                            @Content(schema = @Schema(implementation = CursorPageResponse.class))
+                    }
+            ),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match, in offset and cursor mode"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, unsupported sort, sort not supported in cursor mode, facets requested outside offset paging, or includeArchived outside offset keyword/status search")
     })
     @GetMapping("/search")
-    public ResponseEntity<PageResponse<TodoDTO>> searchTodos(
+    public ResponseEntity<?> searchTodos(
             @Parameter(description = "Search keyword for todo title or description", example = "Spring Boot")
             @RequestParam(required = false) String keyword,
             @Parameter(description = "Filter by status", example = "PENDING")
@@ -88,25 +144,131 @@ public class TodoApi {
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "10")
             @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sort by field and direction (e.g., 'todo,asc' or 'status,desc')", example = "status,asc")
-            @RequestParam(required = false) String sort) {
+            @Parameter(description = "Sort keys separated by ';' (e.g., 'todo,asc' or 'status,asc;dueAt,asc'); every key of a multi-key sort has the same direction; dueAt takes an optional nullsFirst or nullsLast (default: undated todos last ascending, first descending)", example = "status,asc")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Keyset cursor: empty for the first page, then the previous response's nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "How to obtain totalElements: EXACT (count query), ESTIMATED (planner statistics) or NONE", example = "EXACT")
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @Parameter(description = "Match keyword words within a small edit distance and rank by closeness (ignores sort)", example = "false")
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Full-text match on stemmed keyword words, ranked by relevance (ignores sort)", example = "false")
+            @RequestParam(defaultValue = "false") boolean ranked,
+            @Parameter(description = "Include per-status match counts for the keyword (facets)", example = "false")
+            @RequestParam(defaultValue = "false") boolean facets,
+            @Parameter(description = "Also search archived (long completed or cancelled) todos; offset paging with an exact count only", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
 
         if (!featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
 
         Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TodoDTO> response = todoService.searchTodos(keyword, status, pageable);
-        return ResponseEntity.ok(response);
+        if (facets && (cursor != null || fuzzy || ranked)) {
+            throw new IllegalArgumentException("Facets are only available for offset paginated keyword/status search");
+        }
+        if (includeArchived) {
+            if (cursor != null || fuzzy || ranked || facets) {
+                throw new IllegalArgumentException("Archived todos are only searched with offset paginated keyword/status search");
+            }
+            return withETag(todoService.searchTodosIncludingArchived(keyword, status, pageable));
+        }
+        if (fuzzy && keyword != null && !keyword.isBlank()) {
+            if (cursor != null) {
+                throw new IllegalArgumentException("Fuzzy search is ranked and does not support cursor pagination");
+            }
+            return withETag(todoService.fuzzySearchTodos(keyword, status, pageable));
+        }
+        if (ranked && keyword != null && !keyword.isBlank()) {
+            if (cursor != null) {
+                throw new IllegalArgumentException("Ranked search does not support cursor pagination");
+            }
+            return withETag(todoService.rankedSearchTodos(keyword, status, pageable));
+        }
+        if (cursor != null) {
+            return withETag(todoService.searchTodos(
+                    keyword, status, cursor, pageable.getPageSize(), pageable.getSort()));
+        }
+        PageResponse<TodoDTO> response = count == CountMode.EXACT
+                ? todoService.searchTodos(keyword, status, pageable)
+                : todoService.searchTodos(keyword, status, pageable, count);
+        if (facets) {
+            response = response.withFacets(todoService.countTodosByStatus(keyword));
+        }
+        return withETag(response);
+    }
+
+    @Operation(
+            summary = "Export todos",
+            description = "Download every todo, optionally filtered by keyword and/or status like /search, as NDJSON (one JSON object per line) or CSV. " +
+                    "Rows are streamed from the database as they are written, so the export size is not limited by memory."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed",
+                    content = {
+                            @Content(mediaType = "application/x-ndjson"),
+                            @Content(mediaType = "text/csv")
+                    }),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "503", description = "Filtering requested while search is disabled")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @Parameter(description = "Output format: ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Search keyword for todo title or description", example = "Spring Boot")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "Filter by status", example = "PENDING")
+            @RequestParam(required = false) Status status) {
+
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        boolean filtered = (keyword != null && !keyword.isBlank()) || status != null;
+        if (filtered && !featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        StreamingResponseBody body = out -> todoExportService.export(keyword, status, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("todos." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Suggest todo titles",
+            description = "Typeahead suggestions: up to 'limit' (default 10, max 50) distinct titles starting with 'prefix', ignoring case, in alphabetical order. Served from memory."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions"),
+            @ApiResponse(responseCode = "503", description = "Search is disabled")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggestTitles(
+            @Parameter(description = "Beginning of the title", example = "Comp")
+            @RequestParam(defaultValue = "") String prefix,
+            @Parameter(description = "Maximum number of suggestions", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (!featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        int sanitizedLimit = Math.max(1, Math.min(limit, 50));
+        return ResponseEntity.ok(todoService.suggestTitles(prefix, sanitizedLimit));
     }
 
     @Operation(
             summary = "Get todo by ID",
-            description = "Retrieve a specific todo by its UUID"
+            description = "Retrieve a specific todo by its UUID. The response carries the todo's version as a strong ETag; " +
+                    "send it back in If-None-Match to get 304 Not Modified while the todo is unchanged."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved todo",
                     content = @Content(schema = @Schema(implementation = TodoDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Todo unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Todo not found")
     })
     @GetMapping("/{id}")
@@ -114,7 +276,8 @@ public class TodoApi {
             @Parameter(description = "Todo UUID", example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id) {
         TodoDTO todo = todoService.getTodoById(id);
-        return ResponseEntity.ok(todo);
+        // A matching If-None-Match turns this into a 304 before the body is written
+        return ResponseEntity.ok().eTag(ETags.of(todo)).body(todo);
     }
 
     @Operation(
@@ -137,27 +300,83 @@ public class TodoApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTodo);
     }
 
+    @Operation(
+            summary = "Create todos in bulk",
+            description = "Create up to " + MAX_BULK_ITEMS + " todos in one request and one transaction, inserted through JDBC batches. " +
+                    "Items failing validation are reported in 'errors' by their index in the array; the valid items are still created."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see 'errors' for rejected items",
+                    content = @Content(schema = @Schema(implementation = BulkResponse.class))),
+            @ApiResponse(responseCode = "400", description = "More than " + MAX_BULK_ITEMS + " items"),
+            @ApiResponse(responseCode = "503", description = "Writes are disabled")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResponse<TodoDTO>> createTodos(
+            @Parameter(description = "Todos to create")
+            @RequestBody List<TodoCreateDTO> todoCreateDTOs) {
+        if (!featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        if (todoCreateDTOs.size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_ITEMS + " todos can be created per request");
+        }
+        return ResponseEntity.ok(todoService.createTodos(todoCreateDTOs));
+    }
+
     @Operation(
             summary = "Update a todo",
-            description = "Update an existing todo by its UUID. All fields are optional - only provided fields will be updated."
+            description = "Update an existing todo by its UUID. All fields are optional - only provided fields will be updated. " +
+                    "With If-Match set to the ETag last read, the update only applies if nobody changed the todo since."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Todo updated successfully",
                     content = @Content(schema = @Schema(implementation = TodoDTO.class))),
             @ApiResponse(responseCode = "404", description = "Todo not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid input")
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "409", description = "The todo is archived, or other writes to it kept winning; retry"),
+            @ApiResponse(responseCode = "412", description = "The todo changed since the ETag in If-Match")
     })
     @PutMapping("/{id}")
     public ResponseEntity<TodoDTO> updateTodo(
             @Parameter(description = "Todo UUID", example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id,
             @Parameter(description = "Todo update data")
-            @Valid @RequestBody TodoUpdateDTO todoUpdateDTO) {
+            @Valid @RequestBody TodoUpdateDTO todoUpdateDTO,
+            @Parameter(description = "ETag the todo must still have, e.g. \"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (!featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        TodoDTO updatedTodo = todoService.updateTodo(id, todoUpdateDTO, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updatedTodo)).body(updatedTodo);
+    }
+
+    @Operation(
+            summary = "Change the status of many todos",
+            description = "Move the todos listed in 'ids', or those matching 'keyword' and/or 'currentStatus', to 'status' " +
+                    "with set-based UPDATE statements. Returns the number of todos changed; unknown ids and todos already in the target status are not counted."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statuses updated",
+                    content = @Content(schema = @Schema(implementation = BulkUpdateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Missing target status, or not exactly one of ids and filter given"),
+            @ApiResponse(responseCode = "503", description = "Writes are disabled, or filtering requested while search is disabled")
+    })
+    @PatchMapping("/status")
+    public ResponseEntity<BulkUpdateResponse> updateTodoStatuses(
+            @Parameter(description = "Todos to update and their new status")
+            @Valid @RequestBody TodoStatusUpdateDTO statusUpdateDTO) {
         if (!featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
-        TodoDTO updatedTodo = todoService.updateTodo(id, todoUpdateDTO);
-        return ResponseEntity.ok(updatedTodo);
+        boolean filtered = (statusUpdateDTO.getKeyword() != null && !statusUpdateDTO.getKeyword().isBlank())
+                || statusUpdateDTO.getCurrentStatus() != null;
+        if (filtered && !featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        int updated = todoService.updateTodoStatuses(statusUpdateDTO);
+        return ResponseEntity.ok(new BulkUpdateResponse(updated));
     }
 
     @Operation(
@@ -166,7 +385,8 @@ public class TodoApi {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Todo deleted successfully"),
-            @ApiResponse(responseCode = "404", description = "Todo not found")
+            @ApiResponse(responseCode = "404", description = "Todo not found"),
+            @ApiResponse(responseCode = "409", description = "Other writes to the todo kept winning; retry")
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTodo(
@@ -179,34 +399,48 @@ public class TodoApi {
         return ResponseEntity.noContent().build();
     }
 
-    private Pageable createPageable(int page, int size, String sort) {
-        // Clamp page/size to sensible bounds to avoid IllegalArgumentException from PageRequest
-        int sanitizedPage = Math.max(0, page);
-        int sanitizedSize = Math.max(1, Math.min(size, 100));
-        Sort sortObj = Sort.unsorted();
-
-        if (sort != null && !sort.trim().isEmpty()) {
-            String[] sortParams = sort.split(",");
-            if (sortParams.length == 2) {
-                String property = sortParams[0].trim();
-                String direction = sortParams[1].trim().toUpperCase();
-
-                if (isValidSortProperty(property)) {
-                    Sort.Direction sortDirection = direction.equals("DESC")
-                            ? Sort.Direction.DESC
-                            : Sort.Direction.ASC;
-                    sortObj = Sort.by(sortDirection, property);
-                }
-            }
+    @Operation(
+            summary = "Delete many todos",
+            description = "Delete the todos listed in 'ids', or those matching 'keyword' and/or 'status', with set-based DELETE statements. " +
+                    "Returns the number of todos deleted and the requested ids that matched no todo."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Todos deleted",
+                    content = @Content(schema = @Schema(implementation = BulkDeleteResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Not exactly one of ids and filter given"),
+            @ApiResponse(responseCode = "503", description = "Writes are disabled, or filtering requested while search is disabled")
+    })
+    @DeleteMapping
+    public ResponseEntity<BulkDeleteResponse> deleteTodos(
+            @Parameter(description = "Todos to delete")
+            @RequestBody TodoBulkDeleteDTO bulkDeleteDTO) {
+        if (!featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        boolean filtered = (bulkDeleteDTO.getKeyword() != null && !bulkDeleteDTO.getKeyword().isBlank())
+                || bulkDeleteDTO.getStatus() != null;
+        if (filtered && !featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
+        return ResponseEntity.ok(todoService.deleteTodos(bulkDeleteDTO));
+    }
+
+    /**
+     * A 200 carrying the page's ETag; a matching If-None-Match turns it into a 304 before the body is written.
+     */
+    private static ResponseEntity<PageResponse<TodoDTO>> withETag(PageResponse<TodoDTO> response) {
+        return ResponseEntity.ok().eTag(ETags.of(response)).body(response);
+    }
 
-        return PageRequest.of(sanitizedPage, sanitizedSize, sortObj);
+    private static ResponseEntity<CursorPageResponse<TodoDTO>> withETag(CursorPageResponse<TodoDTO> response) {
+        return ResponseEntity.ok().eTag(ETags.of(response)).body(response);
     }
 
-    private boolean isValidSortProperty(String property) {
-        return property.equals("todo") ||
-               property.equals("description") ||
-               property.equals("status") ||
-               property.equals("id");
+    private Pageable createPageable(int page, int size, String sort) {
+        // Clamp page/size to sensible bounds to avoid IllegalArgumentException from PageRequest
+        int sanitizedPage = Math.max(0, page);
+        int sanitizedSize = Math.max(1, Math.min(size, 100));
+        // An unsupported sort is a 400 rather than silently returning another order
+        return PageRequest.of(sanitizedPage, sanitizedSize, SortParser.parse(sort));
     }
 }
@@ -19,10 +19,13 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import dev.hieu.springboothelloworld.domain.Status;
 import dev.hieu.springboothelloworld.dto.PageResponse;
 import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TotalElementsAccuracy;
 import dev.hieu.springboothelloworld.exception.ResourceNotFoundException;
 import dev.hieu.springboothelloworld.service.TodoService;
 import dev.hieu.springboothelloworld.service.feature.FeatureFlag;
 import dev.hieu.springboothelloworld.service.feature.FeatureFlagService;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
+import dev.hieu.springboothelloworld.web.SortParser;
 import lombok.RequiredArgsConstructor;
 
 @Controller
@@ -40,6 +43,7 @@ public class TodoController {
             @RequestParam(required = false) String sort,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Status status,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             Model model) {
 
         // Validate and constrain page size
@@ -49,25 +53,42 @@ public class TodoController {
             size = 100;
         }
 
+        String sortError = unsupportedSort(sort);
+        if (sortError != null) {
+            // The API answers the same sort with a 400; the page says why and lists in the default order
+            model.addAttribute("errorMessage", sortError);
+            sort = null;
+        }
         Pageable pageable = createPageable(page, size, sort);
         PageResponse<TodoDTO> pageResponse;
 
         boolean canSearch = featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API);
 
+        boolean exactCount = count == null || count == CountMode.EXACT;
+
         if (canSearch && (keyword != null && !keyword.trim().isEmpty() || status != null)) {
-            pageResponse = todoService.searchTodos(keyword, status, pageable);
+            pageResponse = exactCount
+                    ? todoService.searchTodos(keyword, status, pageable)
+                    : todoService.searchTodos(keyword, status, pageable, count);
         } else {
-            pageResponse = todoService.getAllTodos(pageable);
+            pageResponse = exactCount
+                    ? todoService.getAllTodos(pageable)
+                    : todoService.getAllTodos(pageable, count);
         }
 
+        boolean totalKnown = pageResponse.getTotalElementsAccuracy() == TotalElementsAccuracy.EXACT;
+
         // Adjust page if it's out of bounds after size change
-        if (page >= pageResponse.getTotalPages() && pageResponse.getTotalPages() > 0) {
-            page = pageResponse.getTotalPages() - 1;
+        if ((totalKnown && page >= pageResponse.getTotalPages() && pageResponse.getTotalPages() > 0)
+                || (!totalKnown && page > 0 && pageResponse.getContent().isEmpty())) {
+            // Without an exact total the last page is unknown, so fall back to the first one
+            page = totalKnown ? pageResponse.getTotalPages() - 1 : 0;
             // Redirect to corrected page
             return "redirect:/todos?page=" + page + "&size=" + size +
                    (sort != null ? "&sort=" + sort : "") +
                    (keyword != null ? "&keyword=" + keyword : "") +
-                   (status != null ? "&status=" + status : "");
+                   (status != null ? "&status=" + status : "") +
+                   (exactCount ? "" : "&count=" + count);
         }
 
         model.addAttribute("todos", pageResponse.getContent());
@@ -78,7 +99,15 @@ public class TodoController {
         model.addAttribute("keyword", keyword);
         model.addAttribute("statusFilter", status);
         model.addAttribute("statuses", Status.values());
-        model.addAttribute("pageNumbers", calculatePageNumbers(page, pageResponse.getTotalPages()));
+        // Status badges come from the in-memory status counters; per-keyword counts would cost a
+        // grouped LIKE scan on every page view, so the badges are left out while searching
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        model.addAttribute("statusFacets", canSearch && !hasKeyword ? todoService.countTodosByStatus(null) : null);
+        model.addAttribute("count", exactCount ? null : count);
+        model.addAttribute("pageNumbers", calculatePageNumbers(page, pageResponse.getTotalPages() >= 0
+                ? pageResponse.getTotalPages()
+                // Unknown total: offer the pages up to and including the next one, if any
+                : (pageResponse.isLast() ? page + 1 : page + 2)));
 
         return "todos/list";
     }
@@ -221,32 +250,27 @@ public class TodoController {
         return "redirect:/todos";
     }
 
-    private Pageable createPageable(int page, int size, String sort) {
-        Sort sortObj = Sort.unsorted();
-
-        if (sort != null && !sort.trim().isEmpty()) {
-            String[] sortParams = sort.split(",");
-            if (sortParams.length == 2) {
-                String property = sortParams[0].trim();
-                String direction = sortParams[1].trim().toUpperCase();
-
-                if (isValidSortProperty(property)) {
-                    Sort.Direction sortDirection = direction.equals("DESC")
-                            ? Sort.Direction.DESC
-                            : Sort.Direction.ASC;
-                    sortObj = Sort.by(sortDirection, property);
-                }
-            }
+    /**
+     * @return why {@link SortParser} rejects {@code sort}, or {@code null} when it accepts it
+     */
+    private static String unsupportedSort(String sort) {
+        try {
+            SortParser.parse(sort);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
         }
-
-        return PageRequest.of(page, size, sortObj);
     }
 
-    private boolean isValidSortProperty(String property) {
-        return property.equals("todo") ||
-               property.equals("description") ||
-               property.equals("status") ||
-               property.equals("id");
+    private Pageable createPageable(int page, int size, String sort) {
+        Sort sortObj;
+        try {
+            sortObj = SortParser.parse(sort);
+        } catch (IllegalArgumentException e) {
+            // Keep showing the list for hand-edited URLs, just in the default order
+            sortObj = Sort.unsorted();
+        }
+        return PageRequest.of(page, size, sortObj);
     }
 
     /**
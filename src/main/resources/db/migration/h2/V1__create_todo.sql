@@ -0,0 +1,12 @@
+-- Column types match what Hibernate's H2Dialect expects for Todo (spring.jpa.hibernate.ddl-auto: validate).
+CREATE TABLE todo (
+    id              UUID         NOT NULL,
+    todo            VARCHAR(255) NOT NULL,
+    description     VARCHAR(255),
+    status          ENUM ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED') NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    last_updated_at TIMESTAMP(6) NOT NULL,
+    due_at          TIMESTAMP(6),
+    version         BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,3 @@
+-- Databases created by the former ddl-auto: update and baselined at V1 predate Todo.version;
+-- fresh databases already have the column from V1.
+ALTER TABLE todo ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
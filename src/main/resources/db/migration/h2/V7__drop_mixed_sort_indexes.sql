@@ -0,0 +1,8 @@
+-- Every extra index on todo slows down each insert and bulk write. SortParser now only accepts
+-- orderings the V2/V3 indexes serve read forwards or backwards, so the twins V5 added for mixed
+-- directions and reversed null orderings go.
+DROP INDEX idx_todo_due_at_desc;
+
+DROP INDEX idx_todo_status_last_updated_at_desc;
+
+DROP INDEX idx_todo_status_due_at_desc;
@@ -0,0 +1,8 @@
+-- One index per access path of TodoRepository (same set as the h2 and postgresql migrations).
+-- Status filters (findSliceByStatus, the status-only searches, countByStatus) use the leading
+-- column of the composite index, so status gets no index of its own.
+CREATE INDEX idx_todo_status_last_updated_at ON todo (status, last_updated_at);
+
+CREATE INDEX idx_todo_due_at ON todo (due_at);
+
+CREATE INDEX idx_todo_created_at ON todo (created_at);
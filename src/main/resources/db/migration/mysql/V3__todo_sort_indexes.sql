@@ -0,0 +1,9 @@
+-- Indexes for the sort combinations accepted by SortParser that V2 does not already serve
+-- (status alone, createdAt and dueAt use the V2 indexes, id the primary key).
+CREATE INDEX idx_todo_todo ON todo (todo);
+
+CREATE INDEX idx_todo_description ON todo (description);
+
+CREATE INDEX idx_todo_last_updated_at ON todo (last_updated_at);
+
+CREATE INDEX idx_todo_status_due_at ON todo (status, due_at);
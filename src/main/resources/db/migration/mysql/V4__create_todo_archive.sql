@@ -0,0 +1,14 @@
+-- Cold tier for todos in a terminal status, filled by TodoArchiver. Same columns as todo plus the
+-- time the row was moved; no secondary indexes since only includeArchived reads scan it.
+CREATE TABLE todo_archive (
+    id              BINARY(16)   NOT NULL,
+    todo            VARCHAR(255) NOT NULL,
+    description     VARCHAR(255),
+    status          ENUM ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED') NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    last_updated_at DATETIME(6)  NOT NULL,
+    due_at          DATETIME(6),
+    version         BIGINT       NOT NULL,
+    archived_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- Indexes for the mixed-direction orderings accepted by SortParser (same set as the h2 and
+-- postgresql migrations, minus idx_todo_due_at_desc). MySQL sorts nulls first ascending and last
+-- descending and has no NULLS FIRST/LAST, so idx_todo_due_at read backwards already returns due
+-- dates descending with nulls last; the opposite null orderings are emulated by Hibernate with an
+-- expression that no index serves.
+CREATE INDEX idx_todo_status_last_updated_at_desc ON todo (status, last_updated_at DESC);
+
+CREATE INDEX idx_todo_status_due_at_desc ON todo (status, due_at DESC);
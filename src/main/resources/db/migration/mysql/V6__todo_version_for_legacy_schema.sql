@@ -0,0 +1,10 @@
+-- Databases created by the former ddl-auto: update and baselined at V1 predate Todo.version;
+-- fresh databases already have the column from V1. MySQL has no ADD COLUMN IF NOT EXISTS.
+SET @add_version = (
+    SELECT IF(COUNT(*) = 0, 'ALTER TABLE todo ADD COLUMN version BIGINT NOT NULL DEFAULT 0', 'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'todo' AND column_name = 'version'
+);
+PREPARE add_version FROM @add_version;
+EXECUTE add_version;
+DEALLOCATE PREPARE add_version;
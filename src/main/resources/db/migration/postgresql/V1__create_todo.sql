@@ -0,0 +1,12 @@
+-- Column types match what Hibernate's PostgreSQLDialect expects for Todo (spring.jpa.hibernate.ddl-auto: validate).
+CREATE TABLE todo (
+    id              UUID         NOT NULL,
+    todo            VARCHAR(255) NOT NULL,
+    description     VARCHAR(255),
+    status          VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED')),
+    created_at      TIMESTAMP(6) NOT NULL,
+    last_updated_at TIMESTAMP(6) NOT NULL,
+    due_at          TIMESTAMP(6),
+    version         BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,16 @@
+-- One index per access path of TodoRepository, see PostgresTodoIndexPlanIntegrationTest.
+-- Status filters (findSliceByStatus, the status-only searches, countByStatus) use the leading
+-- column of the composite index, so status gets no index of its own.
+CREATE INDEX idx_todo_status_last_updated_at ON todo (status, last_updated_at);
+
+CREATE INDEX idx_todo_due_at ON todo (due_at);
+
+CREATE INDEX idx_todo_created_at ON todo (created_at);
+
+-- gin_trgm_ops lets ILIKE '%keyword%' on either column (PostgresTodoSearchRepository) use an
+-- index instead of a sequential scan.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_todo_todo_trgm ON todo USING gin (todo gin_trgm_ops);
+
+CREATE INDEX idx_todo_description_trgm ON todo USING gin (description gin_trgm_ops);
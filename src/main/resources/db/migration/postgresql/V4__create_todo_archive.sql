@@ -0,0 +1,14 @@
+-- Cold tier for todos in a terminal status, filled by TodoArchiver. Same columns as todo plus the
+-- time the row was moved; no secondary indexes since only includeArchived reads scan it.
+CREATE TABLE todo_archive (
+    id              UUID         NOT NULL,
+    todo            VARCHAR(255) NOT NULL,
+    description     VARCHAR(255),
+    status          VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED')),
+    created_at      TIMESTAMP(6) NOT NULL,
+    last_updated_at TIMESTAMP(6) NOT NULL,
+    due_at          TIMESTAMP(6),
+    version         BIGINT       NOT NULL,
+    archived_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,8 @@
+-- Indexes for the orderings accepted by SortParser that no V2/V3 index serves: a backward scan
+-- reverses every key's direction and null ordering, so mixed directions and due dates sorted
+-- with nulls last in descending order (or first in ascending order) need indexes of their own.
+CREATE INDEX idx_todo_due_at_desc ON todo (due_at DESC NULLS LAST);
+
+CREATE INDEX idx_todo_status_last_updated_at_desc ON todo (status, last_updated_at DESC);
+
+CREATE INDEX idx_todo_status_due_at_desc ON todo (status, due_at DESC NULLS LAST);
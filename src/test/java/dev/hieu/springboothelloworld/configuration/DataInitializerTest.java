@@ -2,15 +2,18 @@ package dev.hieu.springboothelloworld.configuration;
 
 import dev.hieu.springboothelloworld.domain.Todo;
 import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoDataLoadedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
@@ -20,6 +23,9 @@ class DataInitializerTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DataInitializer dataInitializer;
 
@@ -56,6 +62,7 @@ class DataInitializerTest {
         // Then
         verify(todoRepository, times(1)).count();
         verify(todoRepository, never()).saveAll(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(TodoDataLoadedEvent.class));
     }
 
     @Test
@@ -0,0 +1,80 @@
+package dev.hieu.springboothelloworld.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ofMinutes(1), 100);
+    private final ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+            new HikariDataSource(), List.of(new HikariDataSource(), new HikariDataSource()),
+            ReplicaSelection.ROUND_ROBIN, window);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        window.unbind();
+    }
+
+    @Test
+    void determineCurrentLookupKey_OutsideTransaction_ShouldUsePrimary() {
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_InReadOnlyTransactions_ShouldRotateReplicas() {
+        // Given
+        transaction(true);
+
+        // When & Then
+        assertEquals(0, routing.determineCurrentLookupKey());
+        assertEquals(1, routing.determineCurrentLookupKey());
+        assertEquals(0, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_AfterClientsOwnWrite_ShouldReadFromPrimary() {
+        // Given
+        window.bind("client-a");
+        transaction(false);
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+        // When
+        transaction(true);
+
+        // Then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        window.bind("client-b");
+        assertEquals(0, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_WhenPinnedToPrimary_ShouldReadFromPrimary() {
+        // Given
+        transaction(true);
+
+        // When & Then
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, PrimaryReads.call(routing::determineCurrentLookupKey));
+        assertEquals(0, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void leastConnections_WithIdlePools_ShouldPickTheFirstReplica() {
+        List<HikariDataSource> replicas = List.of(new HikariDataSource(), new HikariDataSource());
+
+        assertEquals(0, ReplicaSelection.LEAST_CONNECTIONS.select(replicas, null));
+    }
+
+    private static void transaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
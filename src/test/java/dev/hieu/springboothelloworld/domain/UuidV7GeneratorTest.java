@@ -0,0 +1,52 @@
+package dev.hieu.springboothelloworld.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void next_ShouldSetVersionAndVariant() {
+        UUID id = UuidV7Generator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void next_ShouldEncodeTheCurrentTime() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = UuidV7Generator.next();
+
+        // Then
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void next_ShouldIncreaseInByteOrder() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+
+        // When: far more ids than fit in one millisecond's counter
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(UuidV7Generator.next());
+        }
+
+        // Then: unsigned comparison of the two halves is the database's byte-wise order
+        for (int i = 1; i < ids.size(); i++) {
+            UUID previous = ids.get(i - 1);
+            UUID current = ids.get(i);
+            int byHigh = Long.compareUnsigned(previous.getMostSignificantBits(), current.getMostSignificantBits());
+            assertTrue(byHigh < 0, "ids must be strictly increasing: " + previous + " >= " + current);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.hieu.springboothelloworld.integration;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import dev.hieu.springboothelloworld.service.TodoService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrade of a database created by the former {@code ddl-auto: update}: the todo table exists
+ * without the {@code version} column and without a Flyway history. The application has to
+ * baseline it, migrate it and pass Hibernate's schema validation.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + LegacySchemaMigrationIntegrationTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=sa"
+})
+@ActiveProfiles("test")
+class LegacySchemaMigrationIntegrationTest {
+
+    static final String URL = "jdbc:h2:mem:legacy-schema;DB_CLOSE_DELAY=-1";
+    static final UUID LEGACY_ID = UUID.fromString("0190b8a0-0000-7000-8000-000000000001");
+
+    @Autowired
+    private TodoService todoService;
+
+    @BeforeAll
+    static void createLegacySchema() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "sa");
+             Statement statement = connection.createStatement()) {
+            // What Hibernate generated for the original Todo entity
+            statement.execute("""
+                    CREATE TABLE todo (
+                        id UUID NOT NULL,
+                        created_at TIMESTAMP(6) NOT NULL,
+                        description VARCHAR(255),
+                        due_at TIMESTAMP(6),
+                        last_updated_at TIMESTAMP(6) NOT NULL,
+                        status ENUM ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED') NOT NULL,
+                        todo VARCHAR(255) NOT NULL,
+                        PRIMARY KEY (id)
+                    )""");
+            statement.execute("INSERT INTO todo (id, created_at, last_updated_at, status, todo) "
+                    + "VALUES ('" + LEGACY_ID + "', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PENDING', 'Legacy todo')");
+        }
+    }
+
+    @Test
+    void legacyRows_ShouldBeVersionedAfterTheUpgrade() {
+        TodoDTO legacy = todoService.getTodoById(LEGACY_ID);
+        assertEquals("Legacy todo", legacy.getTodo());
+        assertEquals(0L, legacy.getVersion());
+
+        TodoUpdateDTO update = new TodoUpdateDTO();
+        update.setStatus(Status.COMPLETED);
+        TodoDTO updated = todoService.updateTodo(LEGACY_ID, update, 0L);
+
+        assertEquals(Status.COMPLETED, updated.getStatus());
+        assertEquals(1L, updated.getVersion());
+    }
+}
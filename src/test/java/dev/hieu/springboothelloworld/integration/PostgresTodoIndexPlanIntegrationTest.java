@@ -0,0 +1,156 @@
+package dev.hieu.springboothelloworld.integration;
+
+import dev.hieu.springboothelloworld.web.SortParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static dev.hieu.springboothelloworld.integration.TodoIndexPlanIntegrationTest.BY_STATUS;
+import static dev.hieu.springboothelloworld.integration.TodoIndexPlanIntegrationTest.BY_STATUS_RECENTLY_UPDATED;
+import static dev.hieu.springboothelloworld.integration.TodoIndexPlanIntegrationTest.CREATED_SINCE;
+import static dev.hieu.springboothelloworld.integration.TodoIndexPlanIntegrationTest.DUE_BEFORE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The index checks of {@link TodoIndexPlanIntegrationTest} against the PostgreSQL migrations,
+ * plus the trigram indexes behind keyword search and the index behind every {@link SortParser}
+ * sort. The seed data is small enough that the planner would rather scan the table, so sequential
+ * scans are disabled to ask whether an index can serve the query at all. Skipped when Docker is
+ * not available.
+ */
+@SpringBootTest
+@ActiveProfiles("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresTodoIndexPlanIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void statusFilter_ShouldUseTheStatusLastUpdatedAtIndex() {
+        assertPlanUses(BY_STATUS, "idx_todo_status_last_updated_at");
+    }
+
+    @Test
+    void statusFilterSortedByLastUpdate_ShouldUseTheStatusLastUpdatedAtIndex() {
+        assertPlanUses(BY_STATUS_RECENTLY_UPDATED, "idx_todo_status_last_updated_at");
+    }
+
+    @Test
+    void dueAtRange_ShouldUseTheDueAtIndex() {
+        assertPlanUses(DUE_BEFORE, "idx_todo_due_at");
+    }
+
+    @Test
+    void createdAtRange_ShouldUseTheCreatedAtIndex() {
+        assertPlanUses(CREATED_SINCE, "idx_todo_created_at");
+    }
+
+    @Test
+    void keywordSearch_ShouldUseTheTrigramIndexes() {
+        assertPlanUses("SELECT id FROM todo WHERE todo ILIKE '%spring%'", "idx_todo_todo_trgm");
+        assertPlanUses("SELECT id FROM todo WHERE description ILIKE '%spring%'", "idx_todo_description_trgm");
+    }
+
+    @Test
+    void everyAcceptedSort_ShouldBeReadInOrderFromAnIndex() {
+        Set<Sort> accepted = new HashSet<>();
+        for (String spec : sortSpecs()) {
+            Sort sort;
+            try {
+                sort = SortParser.parse(spec);
+            } catch (IllegalArgumentException rejected) {
+                continue;
+            }
+            accepted.add(sort);
+            String plan = explain("SELECT * FROM todo ORDER BY " + orderBy(sort) + " LIMIT 10");
+
+            // Rows come out of the index already ordered: no (incremental) sort step on top of it
+            assertTrue(plan.contains("Index Scan") && !plan.contains("Sort"),
+                    () -> "Expected an ordered index scan for " + spec + " in plan:\n" + plan);
+        }
+        // Every ordering an index declares was among the specs tried
+        assertEquals(SortParser.SORT_INDEXES.stream()
+                        .flatMap(index -> index.specs().stream())
+                        .map(SortParser::parse)
+                        .collect(Collectors.toSet()),
+                accepted);
+    }
+
+    /**
+     * Every direction and null ordering of every property sequence some index starts with, as
+     * sort specs; {@link SortParser} rejects those no index serves.
+     */
+    private static List<String> sortSpecs() {
+        List<String> specs = new ArrayList<>();
+        SortParser.SORT_INDEXES.stream()
+                .map(index -> index.keys().stream().map(Sort.Order::getProperty).toList())
+                .distinct()
+                .forEach(properties -> {
+                    List<String> prefixes = List.of("");
+                    for (String property : properties) {
+                        List<String> keys = property.equals("dueAt")
+                                ? List.of("dueAt,asc", "dueAt,desc", "dueAt,asc,nullsFirst", "dueAt,desc,nullsFirst",
+                                        "dueAt,asc,nullsLast", "dueAt,desc,nullsLast")
+                                : List.of(property + ",asc", property + ",desc");
+                        prefixes = prefixes.stream()
+                                .flatMap(prefix -> keys.stream().map(key -> prefix.isEmpty() ? key : prefix + ";" + key))
+                                .toList();
+                    }
+                    specs.addAll(prefixes);
+                });
+        return specs;
+    }
+
+    /**
+     * The ORDER BY clause Hibernate renders for {@code sort} on PostgreSQL.
+     */
+    private static String orderBy(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty().replaceAll("([A-Z])", "_$1").toLowerCase()
+                        + " " + order.getDirection().name()
+                        + switch (order.getNullHandling()) {
+                            case NULLS_FIRST -> " NULLS FIRST";
+                            case NULLS_LAST -> " NULLS LAST";
+                            case NATIVE -> "";
+                        })
+                .collect(Collectors.joining(", "));
+    }
+
+    private void assertPlanUses(String sql, String index) {
+        String plan = explain(sql);
+
+        assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+    }
+
+    private String explain(String sql) {
+        String plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+            return String.join("\n", lines);
+        });
+        assertNotNull(plan);
+        return plan;
+    }
+}
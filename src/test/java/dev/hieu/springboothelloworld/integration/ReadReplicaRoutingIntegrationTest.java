@@ -0,0 +1,94 @@
+package dev.hieu.springboothelloworld.integration;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.service.TodoService;
+import dev.hieu.springboothelloworld.service.search.LuceneTodoIndex;
+import dev.hieu.springboothelloworld.service.stats.TodoStatusCounters;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Read/write splitting against two separate databases. The replica gets the schema but never
+ * receives a row, like a replica lagging behind forever: whatever is read from it is stale.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=sa",
+        "todo.datasource.replicas[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoStatusCounters statusCounters;
+
+    @Autowired
+    private LuceneTodoIndex luceneTodoIndex;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "sa")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldReadTheReplica() {
+        assertEquals(0, todoService.getAllTodos().size());
+    }
+
+    @Test
+    void getTodoById_ShouldLoadTheCacheFromThePrimary() {
+        TodoDTO created = todoService.createTodo(create("Replica " + UUID.randomUUID()));
+
+        assertEquals(created.getTodo(), todoService.getTodoById(created.getId()).getTodo());
+    }
+
+    @Test
+    void cachedSearch_ShouldBeFilledFromThePrimary() {
+        String title = "Replica " + UUID.randomUUID();
+        todoService.createTodo(create(title));
+
+        assertEquals(1, todoService.searchTodos(title, null, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void maintenanceJobs_ShouldCompareWithThePrimary() {
+        long loaded = statusCounters.count(null).orElseThrow();
+        assertTrue(loaded > 0);
+
+        // The replica's empty table would be confirmed as drift on the second run
+        statusCounters.reconcile();
+        statusCounters.reconcile();
+
+        assertEquals(loaded, statusCounters.count(null).orElseThrow());
+        assertTrue(luceneTodoIndex.isConsistent());
+    }
+
+    private static TodoCreateDTO create(String title) {
+        TodoCreateDTO create = new TodoCreateDTO();
+        create.setTodo(title);
+        create.setStatus(Status.PENDING);
+        return create;
+    }
+}
@@ -0,0 +1,119 @@
+package dev.hieu.springboothelloworld.integration;
+
+import dev.hieu.springboothelloworld.domain.ArchivedTodo;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import dev.hieu.springboothelloworld.exception.ConflictException;
+import dev.hieu.springboothelloworld.exception.ResourceNotFoundException;
+import dev.hieu.springboothelloworld.repository.TodoArchiveRepository;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.TodoService;
+import dev.hieu.springboothelloworld.service.archive.TodoArchiver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "todo.archive.enabled=true")
+@ActiveProfiles("test")
+class TodoArchiveIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoArchiver todoArchiver;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoArchiveRepository todoArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void archive_ShouldMoveOldTerminalTodosOutOfTheActiveTable() {
+        // Given
+        String title = "Archive me " + UUID.randomUUID();
+        TodoDTO done = create(title, Status.COMPLETED, LocalDateTime.of(2000, 1, 1, 0, 0));
+        TodoDTO recent = create(title, Status.CANCELLED, LocalDateTime.now());
+        TodoDTO pending = create(title, Status.PENDING, LocalDateTime.of(2000, 1, 1, 0, 0));
+
+        // When
+        todoArchiver.archive();
+
+        // Then
+        assertTrue(todoRepository.findById(done.getId()).isEmpty());
+        ArchivedTodo archived = todoArchiveRepository.findById(done.getId()).orElseThrow();
+        assertEquals(Status.COMPLETED, archived.getStatus());
+        assertEquals(done.getVersion(), archived.getVersion());
+        assertNotNull(archived.getArchivedAt());
+        assertTrue(todoRepository.findById(recent.getId()).isPresent());
+        assertTrue(todoRepository.findById(pending.getId()).isPresent());
+    }
+
+    @Test
+    void searchTodos_ShouldOnlyReturnArchivedTodosWhenIncluded() {
+        // Given
+        String title = "Searchable archive " + UUID.randomUUID();
+        TodoDTO done = create(title, Status.COMPLETED, LocalDateTime.of(2000, 1, 1, 0, 0));
+        TodoDTO pending = create(title, Status.PENDING, LocalDateTime.now());
+        todoArchiver.archive();
+
+        // When
+        PageResponse<TodoDTO> active = todoService.searchTodos(title, null, PageRequest.of(0, 10));
+        PageResponse<TodoDTO> all = todoService.searchTodosIncludingArchived(title, null, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(List.of(pending.getId()), active.getContent().stream().map(TodoDTO::getId).toList());
+        assertEquals(2, all.getTotalElements());
+        assertTrue(all.getContent().stream().anyMatch(todo -> todo.getId().equals(done.getId())));
+    }
+
+    @Test
+    void archivedTodos_ShouldStayAddressableById() {
+        // Given
+        TodoDTO done = create("Addressable archive " + UUID.randomUUID(), Status.COMPLETED,
+                LocalDateTime.of(2000, 1, 1, 0, 0));
+        todoArchiver.archive();
+        TodoUpdateDTO update = new TodoUpdateDTO();
+        update.setStatus(Status.PENDING);
+
+        // When & Then
+        assertEquals(done.getVersion(), todoService.getTodoById(done.getId()).getVersion());
+        assertThrows(ConflictException.class, () -> todoService.updateTodo(done.getId(), update));
+        todoService.deleteTodo(done.getId());
+        assertTrue(todoArchiveRepository.findById(done.getId()).isEmpty());
+        assertThrows(ResourceNotFoundException.class, () -> todoService.getTodoById(done.getId()));
+    }
+
+    /**
+     * Create a todo in {@code status} and backdate its last update, which drives archiving.
+     */
+    private TodoDTO create(String title, Status status, LocalDateTime lastUpdatedAt) {
+        TodoCreateDTO create = new TodoCreateDTO();
+        create.setTodo(title);
+        create.setStatus(status);
+        TodoDTO created = todoService.createTodo(create);
+        transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.update(
+                "UPDATE todo SET last_updated_at = ? WHERE id = ?", lastUpdatedAt, created.getId()));
+        return created;
+    }
+}
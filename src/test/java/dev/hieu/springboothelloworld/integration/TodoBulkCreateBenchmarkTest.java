@@ -0,0 +1,68 @@
+package dev.hieu.springboothelloworld.integration;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.BulkResponse;
+import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.service.TodoService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput of {@code POST /api/todos/bulk} against the single-item path it replaces for
+ * ingestion jobs. Timings are logged for comparison rather than asserted, since they depend on
+ * the machine. Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@Slf4j
+class TodoBulkCreateBenchmarkTest {
+
+    private static final int WARMUP_ITEMS = 200;
+    private static final int ITEMS = 2000;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Test
+    void createTodos_ShouldCreateEveryItem() {
+        // Given
+        items("warmup-single", WARMUP_ITEMS).forEach(todoService::createTodo);
+        todoService.createTodos(items("warmup-bulk", WARMUP_ITEMS));
+        List<TodoCreateDTO> single = items("single", ITEMS);
+        List<TodoCreateDTO> bulk = items("bulk", ITEMS);
+
+        // When
+        long singleStart = System.nanoTime();
+        single.forEach(todoService::createTodo);
+        long singleNanos = System.nanoTime() - singleStart;
+
+        long bulkStart = System.nanoTime();
+        BulkResponse<TodoDTO> response = todoService.createTodos(bulk);
+        long bulkNanos = System.nanoTime() - bulkStart;
+
+        // Then
+        log.info("Single-item creates: {} todos/s, bulk create: {} todos/s",
+                Math.round(ITEMS * 1e9 / singleNanos), Math.round(ITEMS * 1e9 / bulkNanos));
+        assertEquals(ITEMS, response.getSucceeded());
+        assertEquals(0, response.getFailed());
+    }
+
+    private List<TodoCreateDTO> items(String prefix, int count) {
+        List<TodoCreateDTO> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new TodoCreateDTO(prefix + " todo #" + i, "Benchmark item", Status.PENDING, null));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.hieu.springboothelloworld.integration;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.CursorPageResponse;
+import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.service.TodoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoCursorPagingIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void searchTodos_WithCursor_ShouldWalkEveryMatchInOrderWithoutLoadingEntities() {
+        // Given
+        String keyword = "Scrollable " + UUID.randomUUID();
+        for (String suffix : List.of("c", "a", "e", "b", "d")) {
+            TodoCreateDTO create = new TodoCreateDTO();
+            create.setTodo(keyword + " " + suffix);
+            create.setStatus(Status.PENDING);
+            todoService.createTodo(create);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<String> titles = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            CursorPageResponse<TodoDTO> page = todoService.searchTodos(keyword, null, cursor, 2,
+                    Sort.by(Sort.Direction.DESC, "todo"));
+            assertTrue(page.getContent().size() <= 2);
+            page.getContent().forEach(todo -> titles.add(todo.getTodo()));
+            cursor = page.getNextCursor();
+            pages++;
+        }
+
+        // Then
+        assertEquals(List.of("e", "d", "c", "b", "a").stream().map(suffix -> keyword + " " + suffix).toList(), titles);
+        assertEquals(3, pages);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
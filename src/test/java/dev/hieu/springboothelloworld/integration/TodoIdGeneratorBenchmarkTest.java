@@ -0,0 +1,99 @@
+package dev.hieu.springboothelloworld.integration;
+
+import dev.hieu.springboothelloworld.domain.UuidV7Generator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Insert throughput into a UUID primary key with random (version 4) ids, as generated before,
+ * against time-ordered {@link UuidV7Generator} ids. On PostgreSQL the primary key index sizes
+ * are reported as well. Excluded from the default build; run with {@code mvn test -Pbenchmark},
+ * against PostgreSQL by also activating its profile.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@Slf4j
+class TodoIdGeneratorBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS id_benchmark_random");
+            jdbcTemplate.execute("DROP TABLE IF EXISTS id_benchmark_v7");
+        });
+    }
+
+    @Test
+    void uuidV7_ShouldInsertIntoAnOrderedIndex() {
+        // Given
+        createTable("id_benchmark_random");
+        createTable("id_benchmark_v7");
+
+        // When
+        long randomNanos = insert("id_benchmark_random", UUID::randomUUID);
+        long v7Nanos = insert("id_benchmark_v7", UuidV7Generator::next);
+
+        // Then
+        log.info("Random UUID inserts: {} rows/s, UUIDv7 inserts: {} rows/s",
+                Math.round(ROWS * 1e9 / randomNanos), Math.round(ROWS * 1e9 / v7Nanos));
+        if (isPostgres()) {
+            log.info("Primary key index size, random: {}, UUIDv7: {}",
+                    indexSize("id_benchmark_random"), indexSize("id_benchmark_v7"));
+        }
+        assertEquals(ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_benchmark_v7", Integer.class));
+        assertEquals(ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_benchmark_random", Integer.class));
+    }
+
+    private void createTable(String table) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(
+                "CREATE TABLE " + table + " (id UUID PRIMARY KEY, todo VARCHAR(255) NOT NULL)"));
+    }
+
+    private long insert(String table, Supplier<UUID> ids) {
+        long start = System.nanoTime();
+        for (int inserted = 0; inserted < ROWS; inserted += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch.add(new Object[]{ids.get(), "Benchmark todo #" + (inserted + i)});
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, todo) VALUES (?, ?)", batch));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private boolean isPostgres() {
+        return "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+    }
+
+    private String indexSize(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT pg_size_pretty(pg_relation_size('" + table + "_pkey'))", String.class);
+    }
+}
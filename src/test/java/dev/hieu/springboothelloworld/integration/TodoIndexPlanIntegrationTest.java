@@ -0,0 +1,57 @@
+package dev.hieu.springboothelloworld.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every index created by the migrations serves one of the query shapes {@code TodoRepository}
+ * runs, checked against the H2 query plan. {@link PostgresTodoIndexPlanIntegrationTest} checks
+ * the same statements on PostgreSQL.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoIndexPlanIntegrationTest {
+
+    static final String BY_STATUS = "SELECT id FROM todo WHERE status = 'PENDING'";
+    static final String BY_STATUS_RECENTLY_UPDATED =
+            "SELECT id FROM todo WHERE status = 'PENDING' ORDER BY last_updated_at DESC";
+    static final String DUE_BEFORE =
+            "SELECT id FROM todo WHERE due_at < TIMESTAMP '2030-01-01 00:00:00' ORDER BY due_at";
+    static final String CREATED_SINCE =
+            "SELECT id FROM todo WHERE created_at >= TIMESTAMP '2030-01-01 00:00:00' ORDER BY created_at DESC";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void statusFilter_ShouldUseTheStatusLastUpdatedAtIndex() {
+        assertPlanUses(BY_STATUS, "idx_todo_status_last_updated_at");
+    }
+
+    @Test
+    void statusFilterSortedByLastUpdate_ShouldUseTheStatusLastUpdatedAtIndex() {
+        assertPlanUses(BY_STATUS_RECENTLY_UPDATED, "idx_todo_status_last_updated_at");
+    }
+
+    @Test
+    void dueAtRange_ShouldUseTheDueAtIndex() {
+        assertPlanUses(DUE_BEFORE, "idx_todo_due_at");
+    }
+
+    @Test
+    void createdAtRange_ShouldUseTheCreatedAtIndex() {
+        assertPlanUses(CREATED_SINCE, "idx_todo_created_at");
+    }
+
+    private void assertPlanUses(String sql, String index) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertNotNull(plan);
+        assertTrue(plan.toLowerCase().contains(index), () -> "Expected " + index + " in plan: " + plan);
+    }
+}
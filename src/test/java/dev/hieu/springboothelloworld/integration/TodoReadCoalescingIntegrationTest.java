@@ -0,0 +1,92 @@
+package dev.hieu.springboothelloworld.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.service.TodoService;
+import dev.hieu.springboothelloworld.service.stats.TodoStatusCounters;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Readers coalesced onto another caller's identical in-flight page read wait without holding a
+ * pool connection: only the leader opens a transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoReadCoalescingIntegrationTest {
+
+    private static final int FOLLOWERS = 5;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private TodoStatusCounters statusCounters;
+
+    @Test
+    void getAllTodos_FollowersWaitingOnTheLeader_ShouldHoldNoConnections() throws Exception {
+        // Given: the leader stops inside its read, once its transaction has begun
+        CountDownLatch leaderReading = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            leaderReading.countDown();
+            assertTrue(releaseLeader.await(30, TimeUnit.SECONDS));
+            return invocation.callRealMethod();
+        }).when(statusCounters).count(null);
+        Pageable pageable = PageRequest.of(0, 10);
+        AtomicReferenceArray<PageResponse<TodoDTO>> results = new AtomicReferenceArray<>(FOLLOWERS + 1);
+        Thread leader = new Thread(() -> results.set(0, todoService.getAllTodos(pageable)));
+        leader.start();
+        assertTrue(leaderReading.await(30, TimeUnit.SECONDS));
+
+        // When
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 1; i <= FOLLOWERS; i++) {
+            int index = i;
+            Thread follower = new Thread(() -> results.set(index, todoService.getAllTodos(pageable)));
+            follower.start();
+            followers.add(follower);
+        }
+        awaitWaiting(followers);
+
+        // Then
+        int activeConnections = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+        releaseLeader.countDown();
+        leader.join(30_000);
+        for (Thread follower : followers) {
+            follower.join(30_000);
+        }
+        assertTrue(activeConnections <= 1, () -> activeConnections + " connections in use while followers waited");
+        assertNotNull(results.get(0));
+        for (int i = 1; i <= FOLLOWERS; i++) {
+            assertSame(results.get(0), results.get(i));
+        }
+    }
+
+    private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            assertTrue(System.nanoTime() < deadline, "Followers did not start waiting on the leader");
+            Thread.sleep(10);
+        }
+    }
+}
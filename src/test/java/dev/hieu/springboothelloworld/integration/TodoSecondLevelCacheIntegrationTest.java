@@ -0,0 +1,99 @@
+package dev.hieu.springboothelloworld.integration;
+
+import dev.hieu.springboothelloworld.configuration.SecondLevelCacheConfig;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoStatusUpdateDTO;
+import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.TodoService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findById_ShouldBeServedFromTheSecondLevelCache() {
+        // Given
+        TodoDTO created = todoService.createTodo(create("Cached todo"));
+        todoRepository.findById(created.getId());
+        statistics.clear();
+
+        // When
+        Optional<Todo> result = todoRepository.findById(created.getId());
+
+        // Then
+        assertEquals("Cached todo", result.orElseThrow().getTodo());
+        assertTrue(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.TODO_REGION).getHitCount() >= 1);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void getTodoById_AfterUpdate_ShouldReturnTheUpdatedTodo() {
+        // Given
+        TodoDTO created = todoService.createTodo(create("Before update"));
+        todoService.getTodoById(created.getId());
+        TodoUpdateDTO update = new TodoUpdateDTO();
+        update.setTodo("After update");
+
+        // When
+        todoService.updateTodo(created.getId(), update);
+
+        // Then
+        assertEquals("After update", todoService.getTodoById(created.getId()).getTodo());
+    }
+
+    @Test
+    void getTodoById_AfterBulkStatusUpdate_ShouldReturnTheNewStatus() {
+        // Given
+        TodoDTO created = todoService.createTodo(create("Before status update"));
+        todoService.getTodoById(created.getId());
+        TodoStatusUpdateDTO update = new TodoStatusUpdateDTO();
+        update.setIds(List.of(created.getId()));
+        update.setStatus(Status.COMPLETED);
+
+        // When
+        todoService.updateTodoStatuses(update);
+
+        // Then
+        assertEquals(Status.COMPLETED, todoService.getTodoById(created.getId()).getStatus());
+    }
+
+    private TodoCreateDTO create(String title) {
+        TodoCreateDTO dto = new TodoCreateDTO();
+        dto.setTodo(title);
+        dto.setStatus(Status.PENDING);
+        return dto;
+    }
+}
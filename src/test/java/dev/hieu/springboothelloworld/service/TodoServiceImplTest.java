@@ -2,25 +2,58 @@ package dev.hieu.springboothelloworld.service;
 
 import dev.hieu.springboothelloworld.domain.Status;
 import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.dto.BulkDeleteResponse;
+import dev.hieu.springboothelloworld.dto.BulkResponse;
 import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoBulkDeleteDTO;
 import dev.hieu.springboothelloworld.dto.TodoCreateDTO;
 import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoStatusUpdateDTO;
 import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import dev.hieu.springboothelloworld.dto.TotalElementsAccuracy;
+import dev.hieu.springboothelloworld.exception.ConflictException;
+import dev.hieu.springboothelloworld.exception.PreconditionFailedException;
+import dev.hieu.springboothelloworld.exception.ResourceNotFoundException;
+import dev.hieu.springboothelloworld.repository.AnyTodoRepository;
+import dev.hieu.springboothelloworld.repository.TodoArchiveRepository;
 import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.cache.TodoByIdCache;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
+import dev.hieu.springboothelloworld.service.paging.RowCountEstimator;
+import dev.hieu.springboothelloworld.service.search.FuzzyTermIndex;
+import dev.hieu.springboothelloworld.service.search.LuceneTodoIndex;
+import dev.hieu.springboothelloworld.service.search.TitleSuggestionIndex;
+import dev.hieu.springboothelloworld.service.search.TodoSearchCache;
+import dev.hieu.springboothelloworld.service.search.TodoSearchStrategy;
+import dev.hieu.springboothelloworld.service.stats.TodoStatusCounters;
+import dev.hieu.springboothelloworld.service.write.TodoWriteStrategy;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,11 +66,58 @@ class TodoServiceImplTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private AnyTodoRepository anyTodoRepository;
+
+    @Mock
+    private TodoArchiveRepository todoArchiveRepository;
+
+    @Mock
+    private TodoSearchStrategy searchStrategy;
+
+    @Mock
+    private TodoWriteStrategy writeStrategy;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    @Mock
+    private TodoStatusCounters statusCounters;
+
+    @Mock
+    private TodoSearchCache searchCache;
+
+    @Mock
+    private TodoByIdCache todoByIdCache;
+
+    @Mock
+    private TitleSuggestionIndex titleSuggestionIndex;
+
+    @Mock
+    private FuzzyTermIndex fuzzyTermIndex;
+
+    @Mock
+    private LuceneTodoIndex luceneTodoIndex;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private TodoServiceImpl todoService;
 
     private Todo todo1;
     private Todo todo2;
+    private TodoDTO todoDTO1;
+    private TodoDTO todoDTO2;
     private UUID todoId1;
     private UUID todoId2;
 
@@ -57,13 +137,22 @@ class TodoServiceImplTest {
         todo2.setTodo("Test Todo 2");
         todo2.setDescription("Description 2");
         todo2.setStatus(Status.IN_PROGRESS);
+
+        // Reads are projected straight to DTOs by the repository
+        todoDTO1 = new TodoDTO(todoId1, "Test Todo 1", "Description 1", Status.PENDING, null, null, null, null);
+        todoDTO2 = new TodoDTO(todoId2, "Test Todo 2", "Description 2", Status.IN_PROGRESS, null, null, null, null);
+
+        // Bulk operations and coalesced reads open transactions themselves
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(transactionTemplate.getTransactionManager()).thenReturn(transactionManager);
     }
 
     @Test
     void getAllTodos_ShouldReturnListOfTodos() {
         // Given
-        List<Todo> todos = Arrays.asList(todo1, todo2);
-        when(todoRepository.findAll()).thenReturn(todos);
+        List<TodoDTO> todos = Arrays.asList(todoDTO1, todoDTO2);
+        when(todoRepository.findAllDtos()).thenReturn(todos);
 
         // When
         List<TodoDTO> result = todoService.getAllTodos();
@@ -74,15 +163,15 @@ class TodoServiceImplTest {
         assertEquals(todoId1, result.get(0).getId());
         assertEquals("Test Todo 1", result.get(0).getTodo());
         assertEquals(Status.PENDING, result.get(0).getStatus());
-        verify(todoRepository, times(1)).findAll();
+        verify(todoRepository, times(1)).findAllDtos();
     }
 
     @Test
     void getAllTodos_WithPageable_ShouldReturnPageResponse() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Todo> page = new PageImpl<>(Arrays.asList(todo1, todo2), pageable, 2);
-        when(todoRepository.findAll(pageable)).thenReturn(page);
+        Page<TodoDTO> page = new PageImpl<>(Arrays.asList(todoDTO1, todoDTO2), pageable, 2);
+        when(todoRepository.findAllDtos(pageable)).thenReturn(page);
 
         // When
         PageResponse<TodoDTO> result = todoService.getAllTodos(pageable);
@@ -96,15 +185,45 @@ class TodoServiceImplTest {
         assertEquals(1, result.getTotalPages());
         assertTrue(result.isFirst());
         assertTrue(result.isLast());
-        verify(todoRepository, times(1)).findAll(pageable);
+        verify(todoRepository, times(1)).findAllDtos(pageable);
+    }
+
+    @Test
+    void getAllTodosIncludingArchived_ShouldQueryActiveAndArchivedTodos() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(anyTodoRepository.findAllDtos(pageable))
+                .thenReturn(new PageImpl<>(Arrays.asList(todoDTO1, todoDTO2), pageable, 2));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.getAllTodosIncludingArchived(pageable);
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        verifyNoInteractions(todoRepository, statusCounters, searchCache);
+    }
+
+    @Test
+    void searchTodosIncludingArchived_WithBlankKeyword_ShouldFilterOnStatusOnly() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(anyTodoRepository.searchTodos(null, Status.COMPLETED, pageable))
+                .thenReturn(new PageImpl<>(List.of(todoDTO1), pageable, 1));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.searchTodosIncludingArchived("  ", Status.COMPLETED, pageable);
+
+        // Then
+        assertEquals(List.of(todoDTO1), result.getContent());
+        verifyNoInteractions(searchStrategy, searchCache);
     }
 
     @Test
     void searchTodos_WithKeyword_ShouldReturnFilteredTodos() {
         // Given
         String keyword = "Test";
-        List<Todo> todos = Arrays.asList(todo1, todo2);
-        when(todoRepository.searchTodos(keyword, null)).thenReturn(todos);
+        List<TodoDTO> todos = Arrays.asList(todoDTO1, todoDTO2);
+        when(searchStrategy.search(keyword, null)).thenReturn(todos);
 
         // When
         List<TodoDTO> result = todoService.searchTodos(keyword, null);
@@ -112,15 +231,15 @@ class TodoServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(todoRepository, times(1)).searchTodos(keyword, null);
+        verify(searchStrategy, times(1)).search(keyword, null);
     }
 
     @Test
     void searchTodos_WithStatus_ShouldReturnFilteredTodos() {
         // Given
         Status status = Status.PENDING;
-        List<Todo> todos = Arrays.asList(todo1);
-        when(todoRepository.searchTodos(null, status)).thenReturn(todos);
+        List<TodoDTO> todos = Arrays.asList(todoDTO1);
+        when(searchStrategy.search(null, status)).thenReturn(todos);
 
         // When
         List<TodoDTO> result = todoService.searchTodos(null, status);
@@ -129,22 +248,22 @@ class TodoServiceImplTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(Status.PENDING, result.get(0).getStatus());
-        verify(todoRepository, times(1)).searchTodos(null, status);
+        verify(searchStrategy, times(1)).search(null, status);
     }
 
     @Test
     void searchTodos_WithEmptyKeyword_ShouldTreatAsNull() {
         // Given
         String keyword = "   ";
-        List<Todo> todos = Arrays.asList(todo1);
-        when(todoRepository.searchTodos(null, null)).thenReturn(todos);
+        List<TodoDTO> todos = Arrays.asList(todoDTO1);
+        when(searchStrategy.search(null, null)).thenReturn(todos);
 
         // When
         List<TodoDTO> result = todoService.searchTodos(keyword, null);
 
         // Then
         assertNotNull(result);
-        verify(todoRepository, times(1)).searchTodos(null, null);
+        verify(searchStrategy, times(1)).search(null, null);
     }
 
     @Test
@@ -152,8 +271,8 @@ class TodoServiceImplTest {
         // Given
         String keyword = "Test";
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Todo> page = new PageImpl<>(Arrays.asList(todo1), pageable, 1);
-        when(todoRepository.searchTodos(keyword, null, pageable)).thenReturn(page);
+        Page<TodoDTO> page = new PageImpl<>(Arrays.asList(todoDTO1), pageable, 1);
+        when(searchStrategy.search(keyword, null, pageable)).thenReturn(page);
 
         // When
         PageResponse<TodoDTO> result = todoService.searchTodos(keyword, null, pageable);
@@ -161,13 +280,257 @@ class TodoServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        verify(todoRepository, times(1)).searchTodos(keyword, null, pageable);
+        verify(searchStrategy, times(1)).search(keyword, null, pageable);
+    }
+
+    @Test
+    void getAllTodos_WithPageableAndLoadedCounters_ShouldSkipCountQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(statusCounters.count(null)).thenReturn(OptionalLong.of(7));
+        when(todoRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(Arrays.asList(todoDTO1, todoDTO2), pageable, true));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.getAllTodos(pageable);
+
+        // Then
+        assertEquals(7, result.getTotalElements());
+        assertEquals(4, result.getTotalPages());
+        assertEquals(TotalElementsAccuracy.EXACT, result.getTotalElementsAccuracy());
+        verify(todoRepository, never()).findAllDtos(any(Pageable.class));
+    }
+
+    @Test
+    void searchTodos_WithStatusOnlyAndLoadedCounters_ShouldTakeTotalFromCounters() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(statusCounters.count(Status.PENDING)).thenReturn(OptionalLong.of(1));
+        when(searchStrategy.searchSlice(null, Status.PENDING, pageable))
+                .thenReturn(new SliceImpl<>(List.of(todoDTO1), pageable, false));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.searchTodos(null, Status.PENDING, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getTotalPages());
+        assertTrue(result.isLast());
+        verify(searchStrategy, never()).search(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchTodos_WithKeyword_ShouldNotConsultCounters() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(searchStrategy.search("Test", Status.PENDING, pageable)).thenReturn(Page.empty(pageable));
+
+        // When
+        todoService.searchTodos("Test", Status.PENDING, pageable);
+
+        // Then
+        verifyNoInteractions(statusCounters);
+    }
+
+    @Test
+    void searchTodos_WhenCached_ShouldNotQueryDatabase() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        PageResponse<TodoDTO> cached = new PageResponse<>(List.of(), 0, 10, 0, 0, true, true);
+        when(searchCache.get(TodoSearchCache.SearchKey.of("test", Status.PENDING, pageable, CountMode.EXACT)))
+                .thenReturn(cached);
+
+        // When
+        PageResponse<TodoDTO> result = todoService.searchTodos("TEST", Status.PENDING, pageable);
+
+        // Then
+        assertSame(cached, result);
+        verifyNoInteractions(searchStrategy);
+    }
+
+    @Test
+    void searchTodos_OnCacheMiss_ShouldStoreResultWithEpochReadBeforeQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(searchCache.writeEpoch()).thenReturn(42L);
+        when(searchStrategy.search("Test", null, pageable)).thenReturn(new PageImpl<>(List.of(todoDTO1), pageable, 1));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.searchTodos("Test", null, pageable);
+
+        // Then
+        verify(searchCache).put(TodoSearchCache.SearchKey.of("Test", null, pageable, CountMode.EXACT), result, 42L);
+    }
+
+    @Test
+    void fuzzySearchTodos_ShouldPageRankedMatchesInRankOrder() {
+        // Given
+        UUID todoId3 = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 2);
+        when(fuzzyTermIndex.search("tset", null)).thenReturn(Optional.of(List.of(todoId2, todoId1, todoId3)));
+        when(todoRepository.searchTodosByIds(List.of(todoId2, todoId1), null)).thenReturn(Arrays.asList(todoDTO1, todoDTO2));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.fuzzySearchTodos("tset", null, pageable);
+
+        // Then
+        assertEquals(List.of(todoId2, todoId1), result.getContent().stream().map(TodoDTO::getId).toList());
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertFalse(result.isLast());
+    }
+
+    @Test
+    void fuzzySearchTodos_WhenIndexNotReady_ShouldFallBackToExactSearch() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(fuzzyTermIndex.search("Test", null)).thenReturn(Optional.empty());
+        when(searchStrategy.search("Test", null, pageable)).thenReturn(new PageImpl<>(List.of(todoDTO1), pageable, 1));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.fuzzySearchTodos("Test", null, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        verify(todoRepository, never()).searchTodosByIds(any(), any());
+    }
+
+    @Test
+    void countTodosByStatus_WithoutKeyword_ShouldUseStatusCounters() {
+        // Given
+        when(statusCounters.isReady()).thenReturn(true);
+        when(statusCounters.count(any(Status.class))).thenReturn(OptionalLong.of(0));
+        when(statusCounters.count(Status.PENDING)).thenReturn(OptionalLong.of(4));
+
+        // When
+        Map<Status, Long> result = todoService.countTodosByStatus(" ");
+
+        // Then
+        assertEquals(4L, result.get(Status.PENDING));
+        assertEquals(0L, result.get(Status.COMPLETED));
+        verifyNoInteractions(searchStrategy);
+    }
+
+    @Test
+    void countTodosByStatus_WithKeyword_ShouldUseSingleGroupedQuery() {
+        // Given
+        when(searchStrategy.countByStatus("Test")).thenReturn(Map.of(Status.PENDING, 2L));
+
+        // When
+        Map<Status, Long> result = todoService.countTodosByStatus("Test");
+
+        // Then
+        assertEquals(Map.of(Status.PENDING, 2L), result);
+        verify(searchStrategy, never()).search(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void rankedSearchTodos_ShouldLoadHitsInScoreOrder() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 2);
+        when(luceneTodoIndex.search("testing", null, 2, 2))
+                .thenReturn(Optional.of(new LuceneTodoIndex.Hits(List.of(todoId2, todoId1), 5)));
+        when(todoRepository.searchTodosByIds(List.of(todoId2, todoId1), null)).thenReturn(Arrays.asList(todoDTO1, todoDTO2));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.rankedSearchTodos("testing", null, pageable);
+
+        // Then
+        assertEquals(List.of(todoId2, todoId1), result.getContent().stream().map(TodoDTO::getId).toList());
+        assertEquals(5, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+    }
+
+    @Test
+    void rankedSearchTodos_WhenIndexNotReady_ShouldFallBackToExactSearch() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(luceneTodoIndex.search("Test", Status.PENDING, 0, 10)).thenReturn(Optional.empty());
+        when(searchStrategy.search("Test", Status.PENDING, pageable)).thenReturn(new PageImpl<>(List.of(todoDTO1), pageable, 1));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.rankedSearchTodos("Test", Status.PENDING, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        verify(todoRepository, never()).searchTodosByIds(any(), any());
+    }
+
+    @Test
+    void getAllTodos_WithoutCount_ShouldUseSliceAndReportUnknownTotal() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 2);
+        when(todoRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(Arrays.asList(todoDTO1, todoDTO2), pageable, true));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.getAllTodos(pageable, CountMode.NONE);
+
+        // Then
+        assertEquals(2, result.getContent().size());
+        assertEquals(-1, result.getTotalElements());
+        assertEquals(-1, result.getTotalPages());
+        assertEquals(TotalElementsAccuracy.UNKNOWN, result.getTotalElementsAccuracy());
+        assertFalse(result.isFirst());
+        assertFalse(result.isLast());
+        verify(todoRepository, never()).findAllDtos(any(Pageable.class));
+        verifyNoInteractions(rowCountEstimator);
+    }
+
+    @Test
+    void getAllTodos_WithoutCountOnLastPage_ShouldKnowExactTotal() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 2);
+        when(todoRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(todoDTO1), pageable, false));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.getAllTodos(pageable, CountMode.ESTIMATED);
+
+        // Then
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertEquals(TotalElementsAccuracy.EXACT, result.getTotalElementsAccuracy());
+        assertTrue(result.isLast());
+        verifyNoInteractions(rowCountEstimator);
+    }
+
+    @Test
+    void searchTodos_WithEstimatedCount_ShouldReportPlannerEstimate() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(searchStrategy.searchSlice("Test", Status.PENDING, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(todoDTO1, todoDTO2), pageable, true));
+        when(rowCountEstimator.estimate("Test", Status.PENDING)).thenReturn(OptionalLong.of(41));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.searchTodos("Test", Status.PENDING, pageable, CountMode.ESTIMATED);
+
+        // Then
+        assertEquals(41, result.getTotalElements());
+        assertEquals(21, result.getTotalPages());
+        assertEquals(TotalElementsAccuracy.ESTIMATED, result.getTotalElementsAccuracy());
+        verify(searchStrategy, never()).search(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchTodos_WithEstimateBelowRowsSeen_ShouldNotUnderReport() {
+        // Given
+        Pageable pageable = PageRequest.of(3, 2);
+        when(searchStrategy.searchSlice(null, Status.COMPLETED, pageable))
+                .thenReturn(new SliceImpl<>(Arrays.asList(todoDTO1, todoDTO2), pageable, true));
+        when(rowCountEstimator.estimate(null, Status.COMPLETED)).thenReturn(OptionalLong.of(1));
+
+        // When
+        PageResponse<TodoDTO> result = todoService.searchTodos("  ", Status.COMPLETED, pageable, CountMode.ESTIMATED);
+
+        // Then - 8 rows seen plus at least one on the next page
+        assertEquals(9, result.getTotalElements());
+        assertEquals(5, result.getTotalPages());
+        assertEquals(TotalElementsAccuracy.ESTIMATED, result.getTotalElementsAccuracy());
     }
 
     @Test
     void getTodoById_WhenExists_ShouldReturnTodo() {
         // Given
-        when(todoRepository.findById(todoId1)).thenReturn(Optional.of(todo1));
+        when(todoByIdCache.get(todoId1)).thenReturn(Optional.of(todoDTO1));
 
         // When
         TodoDTO result = todoService.getTodoById(todoId1);
@@ -178,14 +541,15 @@ class TodoServiceImplTest {
         assertEquals("Test Todo 1", result.getTodo());
         assertEquals("Description 1", result.getDescription());
         assertEquals(Status.PENDING, result.getStatus());
-        verify(todoRepository, times(1)).findById(todoId1);
+        verify(todoByIdCache, times(1)).get(todoId1);
     }
 
     @Test
     void getTodoById_WhenNotExists_ShouldThrowException() {
         // Given
         UUID nonExistentId = UUID.randomUUID();
-        when(todoRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(todoByIdCache.get(nonExistentId)).thenReturn(Optional.empty());
+        when(anyTodoRepository.findDtoById(nonExistentId)).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -193,7 +557,20 @@ class TodoServiceImplTest {
         });
 
         assertEquals("Todo not found with id: '" + nonExistentId + "'", exception.getMessage());
-        verify(todoRepository, times(1)).findById(nonExistentId);
+        verify(todoByIdCache, times(1)).get(nonExistentId);
+    }
+
+    @Test
+    void getTodoById_WhenArchived_ShouldReturnArchivedTodo() {
+        // Given
+        when(todoByIdCache.get(todoId1)).thenReturn(Optional.empty());
+        when(anyTodoRepository.findDtoById(todoId1)).thenReturn(Optional.of(todoDTO1));
+
+        // When
+        TodoDTO result = todoService.getTodoById(todoId1);
+
+        // Then
+        assertEquals(todoDTO1, result);
     }
 
     @Test
@@ -221,6 +598,7 @@ class TodoServiceImplTest {
         assertEquals("New Description", result.getDescription());
         assertEquals(Status.PENDING, result.getStatus());
         verify(todoRepository, times(1)).save(any(Todo.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TodoChangedEvent.class));
     }
 
     @Test
@@ -248,6 +626,183 @@ class TodoServiceImplTest {
         verify(todoRepository, times(1)).save(any(Todo.class));
     }
 
+    @Test
+    void createTodos_ShouldInsertValidItemsAndReportInvalidOnes() {
+        // Given
+        TodoCreateDTO valid = new TodoCreateDTO();
+        valid.setTodo("New Todo");
+        valid.setStatus(null);
+        TodoCreateDTO blank = new TodoCreateDTO();
+        blank.setTodo(" ");
+
+        when(todoRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            todos.forEach(todo -> todo.setId(UUID.randomUUID()));
+            return todos;
+        });
+
+        // When
+        BulkResponse<TodoDTO> result = todoService.createTodos(Arrays.asList(valid, blank, null));
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertEquals("New Todo", result.getContent().get(0).getTodo());
+        assertEquals(Status.PENDING, result.getContent().get(0).getStatus());
+        assertNotNull(result.getContent().get(0).getId());
+        assertEquals(2, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals(List.of("todo: Todo title is required"), result.getErrors().get(0).getErrors());
+        assertEquals(2, result.getErrors().get(1).getIndex());
+        verify(todoRepository, times(1)).insertAll(argThat(todos -> todos.size() == 1));
+        verify(todoRepository, never()).save(any(Todo.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    void createTodos_WithOnlyInvalidItems_ShouldNotTouchTheDatabase() {
+        // Given
+        TodoCreateDTO blank = new TodoCreateDTO();
+
+        // When
+        BulkResponse<TodoDTO> result = todoService.createTodos(List.of(blank));
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(1, result.getFailed());
+        verify(todoRepository, never()).insertAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    void updateTodoStatuses_ByIds_ShouldUpdateOnlyLockedTodosChangingStatus() {
+        // Given
+        todo2.setStatus(Status.COMPLETED);
+        UUID unknownId = UUID.randomUUID();
+        when(todoRepository.lockByIds(List.of(todoId1, todoId2, unknownId))).thenReturn(List.of(todo1, todo2));
+        when(todoRepository.updateStatus(eq(List.of(todoId1)), eq(Status.COMPLETED), any())).thenReturn(1);
+
+        // When
+        int updated = todoService.updateTodoStatuses(new TodoStatusUpdateDTO(
+                List.of(todoId1, todoId2, todoId1, unknownId), null, null, Status.COMPLETED));
+
+        // Then
+        assertEquals(1, updated);
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(todoRepository, never()).findById(any());
+        verify(todoRepository, never()).save(any(Todo.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TodoChangedEvent changed
+                && changed.getBefore().getId().equals(todoId1)
+                && changed.getBefore().getStatus() == Status.PENDING
+                && changed.getAfter().getStatus() == Status.COMPLETED
+                && changed.getAfter().getLastUpdatedAt() != null));
+    }
+
+    @Test
+    void updateTodoStatuses_ByFilter_ShouldUpdateLockedChunksInTheirOwnTransactions() {
+        // Given
+        List<Todo> firstChunk = new ArrayList<>();
+        for (int i = 0; i < TodoRepository.MAX_IN_PARAMETERS; i++) {
+            Todo todo = new Todo();
+            todo.setId(UUID.randomUUID());
+            todo.setTodo("Test " + i);
+            todo.setStatus(Status.PENDING);
+            firstChunk.add(todo);
+        }
+        UUID lastOfFirstChunk = firstChunk.get(firstChunk.size() - 1).getId();
+        when(todoRepository.lockMatching(eq("Test"), eq(Status.PENDING), eq(new UUID(0L, 0L)), any(Pageable.class)))
+                .thenReturn(firstChunk);
+        when(todoRepository.lockMatching(eq("Test"), eq(Status.PENDING), eq(lastOfFirstChunk), any(Pageable.class)))
+                .thenReturn(List.of(todo1));
+        when(todoRepository.updateStatus(anyCollection(), eq(Status.IN_PROGRESS), any()))
+                .thenAnswer(invocation -> invocation.<Collection<UUID>>getArgument(0).size());
+
+        // When
+        int updated = todoService.updateTodoStatuses(new TodoStatusUpdateDTO(
+                null, "Test", Status.PENDING, Status.IN_PROGRESS));
+
+        // Then
+        assertEquals(TodoRepository.MAX_IN_PARAMETERS + 1, updated);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventPublisher, times(TodoRepository.MAX_IN_PARAMETERS + 1)).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    void updateTodoStatuses_WithoutSelection_ShouldThrowIllegalArgumentException() {
+        // Given
+        TodoStatusUpdateDTO none = new TodoStatusUpdateDTO(List.of(), " ", null, Status.COMPLETED);
+        TodoStatusUpdateDTO both = new TodoStatusUpdateDTO(List.of(todoId1), null, Status.PENDING, Status.COMPLETED);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> todoService.updateTodoStatuses(none));
+        assertThrows(IllegalArgumentException.class, () -> todoService.updateTodoStatuses(both));
+        verify(todoRepository, never()).updateStatus(anyCollection(), any(), any());
+    }
+
+    @Test
+    void deleteTodos_ByIds_ShouldDeleteLockedTodosAndReportUnknownIds() {
+        // Given
+        UUID unknownId = UUID.randomUUID();
+        when(todoRepository.lockByIds(List.of(todoId1, unknownId, todoId2))).thenReturn(List.of(todo1, todo2));
+        when(todoRepository.deleteByIds(List.of(todoId1, todoId2))).thenReturn(2);
+
+        // When
+        BulkDeleteResponse result = todoService.deleteTodos(new TodoBulkDeleteDTO(
+                List.of(todoId1, unknownId, todoId2, unknownId), null, null));
+
+        // Then
+        assertEquals(2, result.getDeleted());
+        assertEquals(List.of(unknownId), result.getNotFound());
+        verify(todoRepository, never()).delete(any(Todo.class));
+        verify(eventPublisher, times(2)).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    void deleteTodos_ByIdsDeletedMeanwhile_ShouldReportThemNotFoundWithoutEvents() {
+        // Given: another transaction deleted todo2 before the lock was taken
+        when(todoRepository.lockByIds(List.of(todoId1, todoId2))).thenReturn(List.of(todo1));
+        when(todoRepository.deleteByIds(List.of(todoId1))).thenReturn(1);
+
+        // When
+        BulkDeleteResponse result = todoService.deleteTodos(new TodoBulkDeleteDTO(
+                List.of(todoId1, todoId2), null, null));
+
+        // Then
+        assertEquals(1, result.getDeleted());
+        assertEquals(List.of(todoId2), result.getNotFound());
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof TodoChangedEvent changed
+                && changed.getId().equals(todoId1)));
+    }
+
+    @Test
+    void deleteTodos_ByFilter_ShouldDeleteInChunks() {
+        // Given
+        List<Todo> firstChunk = new ArrayList<>();
+        for (int i = 0; i < TodoRepository.MAX_IN_PARAMETERS; i++) {
+            Todo todo = new Todo();
+            todo.setId(UUID.randomUUID());
+            todo.setTodo("Old " + i);
+            todo.setStatus(Status.CANCELLED);
+            firstChunk.add(todo);
+        }
+        UUID lastOfFirstChunk = firstChunk.get(firstChunk.size() - 1).getId();
+        todo1.setStatus(Status.CANCELLED);
+        when(todoRepository.lockMatching(isNull(), eq(Status.CANCELLED), eq(new UUID(0L, 0L)), any(Pageable.class)))
+                .thenReturn(firstChunk);
+        when(todoRepository.lockMatching(isNull(), eq(Status.CANCELLED), eq(lastOfFirstChunk), any(Pageable.class)))
+                .thenReturn(List.of(todo1));
+        when(todoRepository.deleteByIds(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<UUID>>getArgument(0).size());
+
+        // When
+        BulkDeleteResponse result = todoService.deleteTodos(new TodoBulkDeleteDTO(null, null, Status.CANCELLED));
+
+        // Then
+        assertEquals(TodoRepository.MAX_IN_PARAMETERS + 1, result.getDeleted());
+        assertTrue(result.getNotFound().isEmpty());
+        verify(todoRepository, times(2)).deleteByIds(anyCollection());
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
     @Test
     void updateTodo_WithAllFields_ShouldUpdateAndReturnTodo() {
         // Given
@@ -256,36 +811,40 @@ class TodoServiceImplTest {
         updateDTO.setDescription("Updated Description");
         updateDTO.setStatus(Status.COMPLETED);
 
-        when(todoRepository.findById(todoId1)).thenReturn(Optional.of(todo1));
-        when(todoRepository.save(any(Todo.class))).thenReturn(todo1);
+        TodoDTO updatedDTO = new TodoDTO(todoId1, "Updated Todo", "Updated Description", Status.COMPLETED, null, null, null, null);
+        when(writeStrategy.update(todoId1, updateDTO, null))
+                .thenReturn(Optional.of(new TodoWriteStrategy.Change(todoDTO1, updatedDTO)));
 
         // When
         TodoDTO result = todoService.updateTodo(todoId1, updateDTO);
 
         // Then
-        assertNotNull(result);
-        verify(todoRepository, times(1)).findById(todoId1);
-        verify(todoRepository, times(1)).save(any(Todo.class));
+        assertSame(updatedDTO, result);
+        verify(writeStrategy, times(1)).update(todoId1, updateDTO, null);
+        verify(todoRepository, never()).findById(any());
+        verify(todoRepository, never()).save(any(Todo.class));
     }
 
     @Test
-    void updateTodo_WithPartialFields_ShouldUpdateOnlyProvidedFields() {
+    void updateTodo_WithPartialFields_ShouldPublishBeforeAndAfterState() {
         // Given
         TodoUpdateDTO updateDTO = new TodoUpdateDTO();
         updateDTO.setStatus(Status.COMPLETED);
         updateDTO.setTodo(null);
         updateDTO.setDescription(null);
 
-        when(todoRepository.findById(todoId1)).thenReturn(Optional.of(todo1));
-        when(todoRepository.save(any(Todo.class))).thenReturn(todo1);
+        TodoDTO updatedDTO = new TodoDTO(todoId1, "Test Todo 1", "Description 1", Status.COMPLETED, null, null, null, null);
+        when(writeStrategy.update(todoId1, updateDTO, null))
+                .thenReturn(Optional.of(new TodoWriteStrategy.Change(todoDTO1, updatedDTO)));
 
         // When
         TodoDTO result = todoService.updateTodo(todoId1, updateDTO);
 
         // Then
-        assertNotNull(result);
-        verify(todoRepository, times(1)).findById(todoId1);
-        verify(todoRepository, times(1)).save(any(Todo.class));
+        assertEquals(Status.COMPLETED, result.getStatus());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TodoChangedEvent changed
+                && changed.getBefore() == todoDTO1
+                && changed.getAfter() == updatedDTO));
     }
 
     @Test
@@ -295,7 +854,7 @@ class TodoServiceImplTest {
         TodoUpdateDTO updateDTO = new TodoUpdateDTO();
         updateDTO.setTodo("Updated Todo");
 
-        when(todoRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(writeStrategy.update(nonExistentId, updateDTO, null)).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -303,28 +862,71 @@ class TodoServiceImplTest {
         });
 
         assertEquals("Todo not found with id: '" + nonExistentId + "'", exception.getMessage());
-        verify(todoRepository, times(1)).findById(nonExistentId);
-        verify(todoRepository, never()).save(any(Todo.class));
+        verify(writeStrategy, times(1)).update(nonExistentId, updateDTO, null);
+        verify(eventPublisher, never()).publishEvent(any(TodoChangedEvent.class));
     }
 
     @Test
-    void deleteTodo_WhenExists_ShouldDeleteTodo() {
+    void updateTodo_WithStaleExpectedVersion_ShouldThrowPreconditionFailed() {
         // Given
+        TodoUpdateDTO updateDTO = new TodoUpdateDTO();
+        updateDTO.setTodo("Updated Todo");
+        when(writeStrategy.update(todoId1, updateDTO, 2L)).thenReturn(Optional.empty());
         when(todoRepository.existsById(todoId1)).thenReturn(true);
 
+        // When & Then
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> todoService.updateTodo(todoId1, updateDTO, 2L));
+
+        assertEquals("Todo '" + todoId1 + "' is no longer at version 2", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    void updateTodo_WithExpectedVersionWhenNotExists_ShouldThrowNotFound() {
+        // Given
+        TodoUpdateDTO updateDTO = new TodoUpdateDTO();
+        updateDTO.setTodo("Updated Todo");
+        when(writeStrategy.update(todoId1, updateDTO, 2L)).thenReturn(Optional.empty());
+        when(todoRepository.existsById(todoId1)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> todoService.updateTodo(todoId1, updateDTO, 2L));
+    }
+
+    @Test
+    void updateTodo_WhenArchived_ShouldThrowConflict() {
+        // Given
+        TodoUpdateDTO updateDTO = new TodoUpdateDTO();
+        updateDTO.setTodo("Updated Todo");
+        when(writeStrategy.update(todoId1, updateDTO, null)).thenReturn(Optional.empty());
+        when(todoArchiveRepository.existsById(todoId1)).thenReturn(true);
+
+        // When & Then
+        assertThrows(ConflictException.class, () -> todoService.updateTodo(todoId1, updateDTO));
+        verify(eventPublisher, never()).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    void deleteTodo_WhenExists_ShouldDeleteTodo() {
+        // Given
+        when(writeStrategy.delete(todoId1)).thenReturn(Optional.of(todoDTO1));
+
         // When
         todoService.deleteTodo(todoId1);
 
         // Then
-        verify(todoRepository, times(1)).existsById(todoId1);
-        verify(todoRepository, times(1)).deleteById(todoId1);
+        verify(writeStrategy, times(1)).delete(todoId1);
+        verify(todoRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(any(TodoChangedEvent.class));
     }
 
     @Test
     void deleteTodo_WhenNotExists_ShouldThrowException() {
         // Given
         UUID nonExistentId = UUID.randomUUID();
-        when(todoRepository.existsById(nonExistentId)).thenReturn(false);
+        when(writeStrategy.delete(nonExistentId)).thenReturn(Optional.empty());
+        when(todoArchiveRepository.deleteArchived(nonExistentId)).thenReturn(0);
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -332,8 +934,21 @@ class TodoServiceImplTest {
         });
 
         assertEquals("Todo not found with id: '" + nonExistentId + "'", exception.getMessage());
-        verify(todoRepository, times(1)).existsById(nonExistentId);
-        verify(todoRepository, never()).deleteById(any(UUID.class));
+        verify(writeStrategy, times(1)).delete(nonExistentId);
+        verify(eventPublisher, never()).publishEvent(any(TodoChangedEvent.class));
     }
-}
 
+    @Test
+    void deleteTodo_WhenArchived_ShouldDeleteFromArchiveWithoutEvent() {
+        // Given
+        when(writeStrategy.delete(todoId1)).thenReturn(Optional.empty());
+        when(todoArchiveRepository.deleteArchived(todoId1)).thenReturn(1);
+
+        // When
+        todoService.deleteTodo(todoId1);
+
+        // Then
+        verify(todoArchiveRepository).deleteArchived(todoId1);
+        verify(eventPublisher, never()).publishEvent(any(TodoChangedEvent.class));
+    }
+}
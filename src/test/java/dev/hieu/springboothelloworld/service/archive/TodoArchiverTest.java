@@ -0,0 +1,126 @@
+package dev.hieu.springboothelloworld.service.archive;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.domain.Todo;
+import dev.hieu.springboothelloworld.repository.TodoArchiveRepository;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoArchiverTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoArchiveRepository todoArchiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TodoArchiver todoArchiver;
+
+    @BeforeEach
+    void setUp() {
+        // Not reached by the constructor test
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        todoArchiver = new TodoArchiver(todoRepository, todoArchiveRepository, eventPublisher, transactionTemplate,
+                Duration.ofDays(30), 2);
+    }
+
+    @Test
+    void archive_ShouldMoveBatchesUntilOneComesBackShort() {
+        // Given
+        Todo first = todo(Status.COMPLETED);
+        Todo second = todo(Status.CANCELLED);
+        Todo third = todo(Status.COMPLETED);
+        when(todoRepository.findArchivable(eq(TodoArchiver.TERMINAL_STATUSES), any(LocalDateTime.class), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(first, second), List.of(third));
+
+        // When
+        long archived = todoArchiver.archive();
+
+        // Then
+        assertEquals(3, archived);
+        verify(todoArchiveRepository).copyFromTodos(List.of(first.getId(), second.getId()));
+        verify(todoRepository).deleteByIds(List.of(first.getId(), second.getId()));
+        verify(todoArchiveRepository).copyFromTodos(List.of(third.getId()));
+        verify(todoRepository).deleteByIds(List.of(third.getId()));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void archive_ShouldPublishADeletionPerArchivedTodo() {
+        // Given
+        Todo todo = todo(Status.COMPLETED);
+        when(todoRepository.findArchivable(any(), any(), any())).thenReturn(List.of(todo));
+
+        // When
+        todoArchiver.archive();
+
+        // Then
+        ArgumentCaptor<TodoChangedEvent> event = ArgumentCaptor.forClass(TodoChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertTrue(event.getValue().isDeletion());
+        assertEquals(todo.getId(), event.getValue().getId());
+        assertEquals(Status.COMPLETED, event.getValue().getBefore().getStatus());
+    }
+
+    @Test
+    void archive_ShouldOnlyTakeTodosOlderThanTheMinimumAge() {
+        // Given
+        when(todoRepository.findArchivable(any(), any(), any())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        // When
+        long archived = todoArchiver.archive();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(todoRepository).findArchivable(any(), cutoff.capture(), any());
+        assertFalse(cutoff.getValue().isBefore(before));
+        assertFalse(cutoff.getValue().isAfter(LocalDateTime.now().minusDays(30)));
+        assertEquals(0, archived);
+        verifyNoInteractions(todoArchiveRepository, eventPublisher);
+    }
+
+    @Test
+    void constructor_WithBatchLargerThanAnInClause_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TodoArchiver(todoRepository, todoArchiveRepository,
+                eventPublisher, transactionTemplate, Duration.ofDays(30), TodoRepository.MAX_IN_PARAMETERS + 1));
+    }
+
+    private Todo todo(Status status) {
+        Todo todo = new Todo();
+        todo.setId(UUID.randomUUID());
+        todo.setTodo("Done " + status);
+        todo.setStatus(status);
+        todo.setLastUpdatedAt(LocalDateTime.now().minusDays(60));
+        todo.setVersion(1L);
+        return todo;
+    }
+}
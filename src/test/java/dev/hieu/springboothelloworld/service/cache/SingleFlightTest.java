@@ -0,0 +1,137 @@
+package dev.hieu.springboothelloworld.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_WhenCallIsInFlight_ShouldShareItsResult() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        List<String> results = new ArrayList<>();
+        Thread leader = new Thread(() -> {
+            String result = singleFlight.execute("page-0", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                awaitQuietly(release);
+                return "result";
+            });
+            synchronized (results) {
+                results.add(result);
+            }
+        });
+        leader.start();
+        started.await();
+
+        // When
+        List<Thread> followers = startFollowers(() -> {
+            String result = singleFlight.execute("page-0", () -> {
+                calls.incrementAndGet();
+                return "own result";
+            });
+            synchronized (results) {
+                results.add(result);
+            }
+        });
+        release.countDown();
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        // Then
+        assertEquals(1, calls.get());
+        assertEquals(List.of("result", "result", "result", "result", "result"), results);
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void execute_WhenCallFails_ShouldRethrowTheSameExceptionToEveryCaller() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+        List<Throwable> thrown = new ArrayList<>();
+        Runnable call = () -> {
+            try {
+                singleFlight.execute("page-0", () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    throw failure;
+                });
+            } catch (RuntimeException e) {
+                synchronized (thrown) {
+                    thrown.add(e);
+                }
+            }
+        };
+        Thread leader = new Thread(call);
+        leader.start();
+        started.await();
+
+        // When
+        List<Thread> followers = startFollowers(call);
+        release.countDown();
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        // Then
+        assertEquals(FOLLOWERS + 1, thrown.size());
+        thrown.forEach(e -> assertSame(failure, e));
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void execute_AfterCallCompleted_ShouldRunTheCallAgain() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        singleFlight.execute("page-0", () -> "first " + calls.incrementAndGet());
+        String result = singleFlight.execute("page-0", () -> "second " + calls.incrementAndGet());
+
+        // Then
+        assertEquals("second 2", result);
+    }
+
+    /**
+     * Start the followers and wait until each one is parked on the leader's call.
+     */
+    private List<Thread> startFollowers(Runnable follower) throws InterruptedException {
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            Thread thread = new Thread(follower);
+            thread.start();
+            followers.add(thread);
+        }
+        for (Thread thread : followers) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        return followers;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package dev.hieu.springboothelloworld.service.cache;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TodoByIdCacheTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TodoByIdCache todoByIdCache;
+
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        todoByIdCache = new TodoByIdCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30),
+                Duration.ofMinutes(1), todoRepository, meterRegistry);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromMemory() {
+        // Given
+        when(todoRepository.findDtoById(id)).thenReturn(Optional.of(dto("Cached")));
+
+        // When
+        todoByIdCache.get(id);
+        Optional<TodoDTO> result = todoByIdCache.get(id);
+
+        // Then
+        assertEquals("Cached", result.orElseThrow().getTodo());
+        verify(todoRepository, times(1)).findDtoById(id);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", TodoByIdCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void get_WithUnknownId_ShouldRememberTheMiss() {
+        // Given
+        when(todoRepository.findDtoById(id)).thenReturn(Optional.empty());
+
+        // When
+        todoByIdCache.get(id);
+        Optional<TodoDTO> result = todoByIdCache.get(id);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(todoRepository, times(1)).findDtoById(id);
+    }
+
+    @Test
+    void onTodoChanged_ShouldEvictTheChangedTodo() {
+        // Given
+        when(todoRepository.findDtoById(id)).thenReturn(Optional.empty(), Optional.of(dto("Created")));
+        todoByIdCache.get(id);
+
+        // When
+        todoByIdCache.onTodoChanged(TodoChangedEvent.created(dto("Created")));
+
+        // Then
+        assertEquals("Created", todoByIdCache.get(id).orElseThrow().getTodo());
+        verify(todoRepository, times(2)).findDtoById(id);
+    }
+
+    @Test
+    void invalidateAll_ShouldEmptyTheCache() {
+        // Given
+        when(todoRepository.findDtoById(id)).thenReturn(Optional.of(dto("Cached")));
+        todoByIdCache.get(id);
+
+        // When
+        todoByIdCache.invalidateAll();
+
+        // Then
+        assertEquals(0, todoByIdCache.size());
+    }
+
+    private TodoDTO dto(String title) {
+        TodoDTO dto = new TodoDTO();
+        dto.setId(id);
+        dto.setTodo(title);
+        dto.setStatus(Status.PENDING);
+        return dto;
+    }
+}
@@ -0,0 +1,81 @@
+package dev.hieu.springboothelloworld.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.service.search.TodoSearchStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TodoExportServiceImplTest {
+
+    @Mock
+    private TodoSearchStrategy searchStrategy;
+
+    private TodoExportServiceImpl exportService;
+
+    private TodoDTO todo;
+    private UUID todoId;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new TodoExportServiceImpl(searchStrategy, new ObjectMapper().findAndRegisterModules());
+        todoId = UUID.randomUUID();
+        todo = new TodoDTO(todoId, "Write \"docs\", then ship", "Line 1\nLine 2", Status.PENDING,
+                LocalDateTime.of(2024, 12, 16, 10, 30), null, null, null);
+    }
+
+    @Test
+    void export_AsCsv_ShouldWriteHeaderAndQuoteFields() throws Exception {
+        // Given
+        when(searchStrategy.stream(null, Status.PENDING)).thenReturn(Stream.of(todo));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.export("  ", Status.PENDING, ExportFormat.CSV, out);
+
+        // Then
+        assertEquals(TodoExportServiceImpl.CSV_HEADER + "\r\n"
+                        + todoId + ",\"Write \"\"docs\"\", then ship\",\"Line 1\nLine 2\",PENDING,2024-12-16T10:30:00,,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_AsNdjson_ShouldWriteOneObjectPerLineAndCloseStream() throws Exception {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(searchStrategy.stream("docs", null)).thenReturn(Stream.of(todo, todo).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.export("docs", null, ExportFormat.NDJSON, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"" + todoId + "\""));
+        assertTrue(lines[0].contains("\"createdAt\":\"2024-12-16T10:30:00\""));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void fromParameter_ShouldIgnoreCaseAndRejectUnknownFormats() {
+        assertEquals(ExportFormat.CSV, ExportFormat.fromParameter("CSV"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromParameter("ndjson"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.fromParameter("xml"));
+    }
+}
@@ -0,0 +1,71 @@
+package dev.hieu.springboothelloworld.service.paging;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorsTest {
+
+    @Test
+    void keysetSort_ShouldAppendIdTieBreakerInSameDirection() {
+        Sort sort = KeysetCursors.keysetSort(Sort.by(Sort.Direction.DESC, "status"));
+
+        assertEquals(Sort.by(Sort.Direction.DESC, "status").and(Sort.by(Sort.Direction.DESC, "id")), sort);
+    }
+
+    @Test
+    void keysetSort_WhenUnsorted_ShouldSortById() {
+        assertEquals(Sort.by("id"), KeysetCursors.keysetSort(Sort.unsorted()));
+    }
+
+    @Test
+    void keysetSort_WithNullableProperty_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursors.keysetSort(Sort.by("description")));
+    }
+
+    @Test
+    void decode_WithoutCursor_ShouldStartAtFirstPage() {
+        ScrollPosition position = KeysetCursors.decode("", Sort.by("id"));
+
+        assertTrue(position.isInitial());
+    }
+
+    @Test
+    void encodeAndDecode_ShouldRoundTripTypedKeys() {
+        Sort sort = KeysetCursors.keysetSort(Sort.by("status"));
+        UUID id = UUID.randomUUID();
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("status", Status.IN_PROGRESS);
+        keys.put("id", id);
+
+        String cursor = KeysetCursors.encode(ScrollPosition.forward(keys), sort);
+        KeysetScrollPosition decoded = (KeysetScrollPosition) KeysetCursors.decode(cursor, sort);
+
+        assertEquals(Status.IN_PROGRESS, decoded.getKeys().get("status"));
+        assertEquals(id, decoded.getKeys().get("id"));
+    }
+
+    @Test
+    void decode_WithCursorFromDifferentSort_ShouldBeRejected() {
+        Sort sort = KeysetCursors.keysetSort(Sort.by("todo"));
+        String cursor = KeysetCursors.encode(
+                ScrollPosition.forward(Map.of("todo", "a", "id", UUID.randomUUID())), sort);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursors.decode(cursor, KeysetCursors.keysetSort(Sort.by("status"))));
+    }
+
+    @Test
+    void decode_WithGarbage_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursors.decode("not-a-cursor", Sort.by("id")));
+    }
+}
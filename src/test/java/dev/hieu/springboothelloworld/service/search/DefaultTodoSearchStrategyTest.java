@@ -0,0 +1,158 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.StatusCount;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultTodoSearchStrategyTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TrigramIndex trigramIndex;
+
+    @InjectMocks
+    private DefaultTodoSearchStrategy searchStrategy;
+
+    @Test
+    void search_WhenTrigramIndexAnswers_ShouldFilterByMatchedIds() {
+        // Given
+        UUID id = UUID.randomUUID();
+        TodoDTO todo = new TodoDTO();
+        todo.setId(id);
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<TodoDTO> page = new PageImpl<>(List.of(todo), pageable, 1);
+        when(trigramIndex.search("Todo 1")).thenReturn(Optional.of(Set.of(id)));
+        when(todoRepository.searchTodosByIds(Set.of(id), Status.PENDING, pageable)).thenReturn(page);
+
+        // When
+        Page<TodoDTO> result = searchStrategy.search("Todo 1", Status.PENDING, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        verify(todoRepository, never()).searchTodos(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void countByStatus_WhenTrigramIndexAnswers_ShouldGroupMatchedIdsAndFillMissingStatuses() {
+        // Given
+        UUID id = UUID.randomUUID();
+        StatusCount pending = mock(StatusCount.class);
+        when(pending.getStatus()).thenReturn(Status.PENDING);
+        when(pending.getCount()).thenReturn(3L);
+        when(trigramIndex.search("Todo")).thenReturn(Optional.of(Set.of(id)));
+        when(todoRepository.countByStatusForIds(Set.of(id))).thenReturn(List.of(pending));
+
+        // When
+        Map<Status, Long> result = searchStrategy.countByStatus("Todo");
+
+        // Then
+        assertEquals(Map.of(Status.PENDING, 3L, Status.IN_PROGRESS, 0L, Status.COMPLETED, 0L, Status.CANCELLED, 0L), result);
+        verify(todoRepository, never()).countByStatusMatching(any());
+    }
+
+    @Test
+    void search_WhenTrigramIndexFindsNothing_ShouldNotQueryDatabase() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(trigramIndex.search("nothing")).thenReturn(Optional.of(Set.of()));
+
+        // When
+        Page<TodoDTO> result = searchStrategy.search("nothing", null, pageable);
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(0, result.getTotalElements());
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void searchSlice_WhenTrigramIndexAnswers_ShouldFilterByMatchedIdsWithoutCounting() {
+        // Given
+        UUID id = UUID.randomUUID();
+        TodoDTO todo = new TodoDTO();
+        todo.setId(id);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(trigramIndex.search("Todo 1")).thenReturn(Optional.of(Set.of(id)));
+        when(todoRepository.searchTodosByIdsSlice(Set.of(id), null, pageable))
+                .thenReturn(new SliceImpl<>(List.of(todo), pageable, false));
+
+        // When
+        Slice<TodoDTO> result = searchStrategy.searchSlice("Todo 1", null, pageable);
+
+        // Then
+        assertEquals(List.of(todo), result.getContent());
+        assertFalse(result.hasNext());
+        verify(todoRepository, never()).searchTodosByIds(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void search_WhenTrigramIndexCannotAnswer_ShouldUseLikeQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(trigramIndex.search("fi")).thenReturn(Optional.empty());
+        when(todoRepository.searchTodos("fi", null, pageable)).thenReturn(Page.empty(pageable));
+
+        // When
+        searchStrategy.search("fi", null, pageable);
+
+        // Then
+        verify(todoRepository, times(1)).searchTodos("fi", null, pageable);
+    }
+
+    @Test
+    void search_WhenTooManyIndexedMatches_ShouldUseLikeQuery() {
+        // Given
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 0; i <= DefaultTodoSearchStrategy.MAX_INDEXED_MATCHES; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        when(trigramIndex.search("task")).thenReturn(Optional.of(ids));
+        when(todoRepository.searchTodos("task", null)).thenReturn(List.of());
+
+        // When
+        searchStrategy.search("task", null);
+
+        // Then
+        verify(todoRepository, times(1)).searchTodos("task", null);
+        verify(todoRepository, never()).searchTodosByIds(any(), any());
+    }
+
+    @Test
+    void search_WithoutKeyword_ShouldNotConsultIndex() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(todoRepository.searchTodos(null, Status.COMPLETED, pageable)).thenReturn(Page.empty(pageable));
+
+        // When
+        searchStrategy.search(null, Status.COMPLETED, pageable);
+
+        // Then
+        verifyNoInteractions(trigramIndex);
+    }
+}
@@ -0,0 +1,149 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FuzzyTermIndexTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private FuzzyTermIndex fuzzyTermIndex;
+
+    private UUID springId;
+    private UUID springsId;
+    private UUID bugId;
+
+    @BeforeEach
+    void setUp() {
+        springId = UUID.randomUUID();
+        springsId = UUID.randomUUID();
+        bugId = UUID.randomUUID();
+
+        when(todoRepository.streamAll()).thenReturn(Stream.of(
+                todo(springId, "Complete Spring Boot project", "Finish implementing all features", Status.PENDING),
+                todo(springsId, "Visit hot springs", null, Status.COMPLETED),
+                todo(bugId, "Fix bug", "Crash on startup", Status.PENDING)
+        ));
+        fuzzyTermIndex.rebuild();
+    }
+
+    @Test
+    void search_BeforeRebuild_ShouldNotAnswer() {
+        assertEquals(Optional.empty(), new FuzzyTermIndex(todoRepository).search("spring", null));
+    }
+
+    @Test
+    void search_ShouldTolerateTyposAndRankByDistance() {
+        // "sprnig" is 2 edits from "spring" but 3 from "springs"
+        assertEquals(Optional.of(List.of(springId)), fuzzyTermIndex.search("sprnig", null));
+        // "spring" matches "spring" (0) before "springs" (1)
+        assertEquals(Optional.of(List.of(springId, springsId)), fuzzyTermIndex.search("Spring", null));
+    }
+
+    @Test
+    void search_ShouldRequireEveryWordAndApplyStatus() {
+        assertEquals(Optional.of(List.of(springId)), fuzzyTermIndex.search("sprinq boot", null));
+        assertEquals(Optional.of(List.of(springsId)), fuzzyTermIndex.search("spring", Status.COMPLETED));
+        assertEquals(Optional.of(List.of()), fuzzyTermIndex.search("bug boot", null));
+    }
+
+    @Test
+    void search_ShortWordsShouldMatchExactlyOnly() {
+        assertEquals(Optional.of(List.of(bugId)), fuzzyTermIndex.search("on", null));
+        assertEquals(Optional.of(List.of()), fuzzyTermIndex.search("of", null));
+    }
+
+    @Test
+    void onTodoChanged_ShouldKeepIndexInSync() {
+        UUID newId = UUID.randomUUID();
+        TodoDTO created = dto(newId, "Write changelog");
+        fuzzyTermIndex.onTodoChanged(TodoChangedEvent.created(created));
+        assertEquals(Optional.of(List.of(newId)), fuzzyTermIndex.search("chnagelog", null));
+
+        fuzzyTermIndex.onTodoChanged(TodoChangedEvent.deleted(created));
+        assertEquals(Optional.of(List.of()), fuzzyTermIndex.search("chnagelog", null));
+        assertEquals(3, fuzzyTermIndex.size());
+    }
+
+    @Test
+    void onTodoChanged_ShouldRebuildTreeOnceMostWordsAreDead() {
+        int liveWords = fuzzyTermIndex.termCount();
+        TodoDTO small = dto(UUID.randomUUID(), "Write changelog");
+        fuzzyTermIndex.onTodoChanged(TodoChangedEvent.created(small));
+        fuzzyTermIndex.onTodoChanged(TodoChangedEvent.deleted(small));
+        // Two dead words are tolerated and still never match
+        assertEquals(liveWords + 2, fuzzyTermIndex.termCount());
+        assertEquals(Optional.of(List.of()), fuzzyTermIndex.search("changelog", null));
+
+        TodoDTO large = dto(UUID.randomUUID(),
+                "alpha bravo charlie delta echo foxtrot golf hotel india juliett kilo lima mike november oscar papa");
+        fuzzyTermIndex.onTodoChanged(TodoChangedEvent.created(large));
+        fuzzyTermIndex.onTodoChanged(TodoChangedEvent.deleted(large));
+
+        assertEquals(liveWords, fuzzyTermIndex.termCount());
+        assertEquals(Optional.of(List.of(springId, springsId)), fuzzyTermIndex.search("spring", null));
+    }
+
+    @Test
+    void rebuild_ShouldReplayChangesCommittedWhileStreaming() {
+        UUID newId = UUID.randomUUID();
+        TodoDTO created = dto(newId, "Write changelog");
+        TodoDTO staleBug = todo(bugId, "Fix bug", "Crash on startup", Status.PENDING);
+        TodoDTO completedBug = todo(bugId, "Fix bug", "Crash on startup", Status.COMPLETED);
+
+        when(todoRepository.streamAll()).thenReturn(Stream.of(staleBug)
+                .peek(row -> {
+                    fuzzyTermIndex.onTodoChanged(TodoChangedEvent.created(created));
+                    fuzzyTermIndex.onTodoChanged(TodoChangedEvent.updated(staleBug, completedBug));
+                }));
+        fuzzyTermIndex.rebuild();
+
+        assertEquals(Optional.of(List.of(newId)), fuzzyTermIndex.search("changelog", null));
+        assertEquals(Optional.of(List.of(bugId)), fuzzyTermIndex.search("bug", Status.COMPLETED));
+        assertEquals(2, fuzzyTermIndex.size());
+    }
+
+    @Test
+    void levenshtein_ShouldCountEdits() {
+        assertEquals(0, FuzzyTermIndex.levenshtein("spring", "spring"));
+        assertEquals(1, FuzzyTermIndex.levenshtein("spring", "springs"));
+        assertEquals(2, FuzzyTermIndex.levenshtein("spring", "sprnig"));
+        assertEquals(3, FuzzyTermIndex.levenshtein("kitten", "sitting"));
+    }
+
+    private TodoDTO todo(UUID id, String title, String description, Status status) {
+        TodoDTO todo = new TodoDTO();
+        todo.setId(id);
+        todo.setTodo(title);
+        todo.setDescription(description);
+        todo.setStatus(status);
+        return todo;
+    }
+
+    private TodoDTO dto(UUID id, String title) {
+        TodoDTO dto = new TodoDTO();
+        dto.setId(id);
+        dto.setTodo(title);
+        dto.setStatus(Status.PENDING);
+        return dto;
+    }
+}
@@ -0,0 +1,229 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LuceneTodoIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private LuceneTodoIndex luceneTodoIndex;
+    private final List<TodoDTO> rows = new ArrayList<>();
+
+    private UUID springId;
+    private UUID bugId;
+    private UUID crashId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        springId = UUID.randomUUID();
+        bugId = UUID.randomUUID();
+        crashId = UUID.randomUUID();
+        rows.add(todo(springId, "Complete Spring Boot project", "Finish implementing all features", Status.PENDING));
+        rows.add(todo(bugId, "Fix bug", "Crash on startup", Status.PENDING));
+        rows.add(todo(crashId, "Crash report", null, Status.COMPLETED));
+        when(todoRepository.streamAll()).thenAnswer(invocation -> new ArrayList<>(rows).stream());
+
+        luceneTodoIndex = new LuceneTodoIndex(todoRepository, indexPath);
+        luceneTodoIndex.onDataLoaded();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        luceneTodoIndex.close();
+    }
+
+    @Test
+    void search_BeforeDataLoaded_ShouldNotAnswer() throws Exception {
+        luceneTodoIndex.close();
+        luceneTodoIndex = new LuceneTodoIndex(todoRepository, indexPath);
+
+        assertEquals(Optional.empty(), luceneTodoIndex.search("spring", null, 0, 10));
+    }
+
+    @Test
+    void search_ShouldMatchStemmedWords() {
+        assertEquals(List.of(springId), ids("implemented features"));
+        assertEquals(List.of(springId), ids("Projects"));
+        assertEquals(List.of(), ids("spring crash"));
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirstAndApplyStatus() {
+        assertEquals(List.of(crashId, bugId), ids("crash"));
+        assertEquals(List.of(bugId), luceneTodoIndex.search("crash", Status.PENDING, 0, 10).orElseThrow().ids());
+    }
+
+    @Test
+    void search_ShouldPageAndReportTotalHits() {
+        LuceneTodoIndex.Hits hits = luceneTodoIndex.search("crash", null, 1, 1).orElseThrow();
+
+        assertEquals(List.of(bugId), hits.ids());
+        assertEquals(2, hits.totalHits());
+    }
+
+    @Test
+    void onTodoChanged_ShouldBeSearchableRightAway() {
+        TodoDTO created = dto(UUID.randomUUID(), "Write changelog");
+        luceneTodoIndex.onTodoChanged(TodoChangedEvent.created(created));
+        assertEquals(List.of(created.getId()), ids("changelogs"));
+
+        luceneTodoIndex.onTodoChanged(TodoChangedEvent.deleted(created));
+        assertEquals(List.of(), ids("changelogs"));
+    }
+
+    @Test
+    void search_Unpaged_ShouldReturnEveryHit() {
+        LuceneTodoIndex.Hits hits = luceneTodoIndex.search("crash", null, 0, Integer.MAX_VALUE).orElseThrow();
+
+        assertEquals(List.of(crashId, bugId), hits.ids());
+    }
+
+    @Test
+    void reindex_ShouldKeepServingTheOldSnapshotAndReplayChangesMadeMeanwhile() {
+        // Given: a todo renamed while the rebuild streams its old row
+        TodoDTO renamed = dto(bugId, "Fix changelog");
+        List<List<UUID>> seenDuringRebuild = new ArrayList<>();
+        when(todoRepository.streamAll()).thenAnswer(invocation -> new ArrayList<>(rows).stream()
+                .peek(todo -> {
+                    if (todo.getId().equals(bugId)) {
+                        luceneTodoIndex.onTodoChanged(TodoChangedEvent.updated(dto(bugId, "Fix bug"), renamed));
+                        seenDuringRebuild.add(ids("crash"));
+                    }
+                }));
+
+        // When
+        luceneTodoIndex.reindex();
+
+        // Then
+        assertEquals(List.of(List.of(crashId, bugId)), seenDuringRebuild);
+        assertEquals(List.of(bugId), ids("changelog"));
+        assertEquals(List.of(crashId), ids("crash"));
+        assertTrue(luceneTodoIndex.isReady());
+    }
+
+    @Test
+    void reindex_ShouldReplayEveryChangeCommittedConcurrentlyDuringTheRebuild() throws Exception {
+        // Given: a rebuild parked in the middle of its stream
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(todoRepository.streamAll()).thenAnswer(invocation -> new ArrayList<>(rows).stream()
+                .peek(todo -> {
+                    if (todo.getId().equals(bugId)) {
+                        streaming.countDown();
+                        await(release);
+                    }
+                }));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?> rebuild = executor.submit(luceneTodoIndex::reindex);
+            assertTrue(streaming.await(5, TimeUnit.SECONDS));
+
+            // When: seven threads commit 50 new todos each meanwhile
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < 7; thread++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        luceneTodoIndex.onTodoChanged(TodoChangedEvent.created(dto(UUID.randomUUID(), "Write changelog")));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(5, TimeUnit.SECONDS);
+            }
+            release.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(350, luceneTodoIndex.search("changelog", null, 0, 10).orElseThrow().totalHits());
+    }
+
+    @Test
+    void isConsistent_ShouldDetectChangesMissedByTheIndex() {
+        assertTrue(luceneTodoIndex.isConsistent());
+
+        rows.get(0).setStatus(Status.COMPLETED);
+        assertFalse(luceneTodoIndex.isConsistent());
+
+        luceneTodoIndex.checkConsistency();
+        assertTrue(luceneTodoIndex.isConsistent());
+        assertEquals(List.of(springId), luceneTodoIndex.search("spring", Status.COMPLETED, 0, 10).orElseThrow().ids());
+    }
+
+    @Test
+    void onDataLoaded_WithConsistentIndexOnDisk_ShouldNotReindex() throws Exception {
+        luceneTodoIndex.close();
+        clearInvocations(todoRepository);
+
+        luceneTodoIndex = new LuceneTodoIndex(todoRepository, indexPath);
+        luceneTodoIndex.onDataLoaded();
+
+        // Only the consistency check streams the table
+        verify(todoRepository, times(1)).streamAll();
+        assertEquals(List.of(crashId, bugId), ids("crash"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<UUID> ids(String keyword) {
+        return luceneTodoIndex.search(keyword, null, 0, 10).orElseThrow().ids();
+    }
+
+    private TodoDTO todo(UUID id, String title, String description, Status status) {
+        TodoDTO todo = new TodoDTO();
+        todo.setId(id);
+        todo.setTodo(title);
+        todo.setDescription(description);
+        todo.setStatus(status);
+        return todo;
+    }
+
+    private TodoDTO dto(UUID id, String title) {
+        TodoDTO dto = new TodoDTO();
+        dto.setId(id);
+        dto.setTodo(title);
+        dto.setStatus(Status.PENDING);
+        return dto;
+    }
+}
@@ -0,0 +1,116 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TitleSuggestionIndexTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TitleSuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(todoRepository.streamAll()).thenReturn(Stream.of(
+                todo("Complete Spring Boot project"),
+                todo("Compile release notes"),
+                todo("Fix bug"),
+                todo("Fix bug")
+        ));
+        suggestionIndex.rebuild();
+    }
+
+    @Test
+    void suggest_ShouldReturnMatchingTitlesInOrderIgnoringCase() {
+        assertEquals(List.of("Compile release notes", "Complete Spring Boot project"), suggestionIndex.suggest("COMP", 10));
+        assertEquals(List.of("Compile release notes"), suggestionIndex.suggest("comp", 1));
+        assertEquals(List.of("Fix bug"), suggestionIndex.suggest("fix", 10));
+        assertEquals(List.of(), suggestionIndex.suggest("zzz", 10));
+        assertEquals(List.of(), suggestionIndex.suggest(" ", 10));
+    }
+
+    @Test
+    void onTodoChanged_ShouldKeepSuggestionsInSync() {
+        TodoDTO created = dto("Write changelog");
+        suggestionIndex.onTodoChanged(TodoChangedEvent.created(created));
+        assertEquals(List.of("Write changelog"), suggestionIndex.suggest("wr", 10));
+
+        TodoDTO renamed = dto("Write release notes");
+        suggestionIndex.onTodoChanged(TodoChangedEvent.updated(created, renamed));
+        assertEquals(List.of("Write release notes"), suggestionIndex.suggest("wr", 10));
+
+        suggestionIndex.onTodoChanged(TodoChangedEvent.deleted(renamed));
+        assertEquals(List.of(), suggestionIndex.suggest("wr", 10));
+    }
+
+    @Test
+    void onTodoChanged_DeletingOneDuplicate_ShouldKeepTitle() {
+        suggestionIndex.onTodoChanged(TodoChangedEvent.deleted(dto("Fix bug")));
+        assertEquals(List.of("Fix bug"), suggestionIndex.suggest("fix", 10));
+
+        suggestionIndex.onTodoChanged(TodoChangedEvent.deleted(dto("Fix bug")));
+        assertEquals(List.of(), suggestionIndex.suggest("fix", 10));
+    }
+
+    @Test
+    void rebuild_ShouldReplayChangesCommittedWhileStreaming() {
+        TodoDTO draft = todo("Draft roadmap");
+        TodoDTO published = dto("Publish roadmap");
+        published.setId(draft.getId());
+        TodoDTO created = dto("Write changelog");
+
+        // The rename commits after the stream has already read the renamed row, the creation
+        // commits before the stream ends without the stream seeing it
+        when(todoRepository.streamAll()).thenReturn(Stream.of(published, todo("Fix bug"))
+                .peek(row -> {
+                    if (row == published) {
+                        suggestionIndex.onTodoChanged(TodoChangedEvent.updated(draft, published));
+                        suggestionIndex.onTodoChanged(TodoChangedEvent.created(created));
+                    }
+                }));
+        suggestionIndex.rebuild();
+
+        assertEquals(List.of("Publish roadmap"), suggestionIndex.suggest("pub", 10));
+        assertEquals(List.of(), suggestionIndex.suggest("draft", 10));
+        assertEquals(List.of("Write changelog"), suggestionIndex.suggest("wr", 10));
+        assertEquals(3, suggestionIndex.size());
+
+        // Counted once: deleting the only publish todo drops the suggestion
+        suggestionIndex.onTodoChanged(TodoChangedEvent.deleted(published));
+        assertEquals(List.of(), suggestionIndex.suggest("pub", 10));
+    }
+
+    private TodoDTO todo(String title) {
+        TodoDTO todo = new TodoDTO();
+        todo.setId(UUID.randomUUID());
+        todo.setTodo(title);
+        todo.setStatus(Status.PENDING);
+        return todo;
+    }
+
+    private TodoDTO dto(String title) {
+        TodoDTO dto = new TodoDTO();
+        dto.setId(UUID.randomUUID());
+        dto.setTodo(title);
+        dto.setStatus(Status.PENDING);
+        return dto;
+    }
+}
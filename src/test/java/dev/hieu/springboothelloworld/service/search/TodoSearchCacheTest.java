@@ -0,0 +1,93 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.PageResponse;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoSearchCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TodoSearchCache searchCache;
+
+    private final TodoSearchCache.SearchKey pendingKey = key(null, Status.PENDING);
+    private final TodoSearchCache.SearchKey springKey = key("spring", null);
+    private final PageResponse<TodoDTO> result = new PageResponse<>(List.of(), 0, 10, 0, 0, true, true);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchCache = new TodoSearchCache(100, Duration.ofMinutes(1), meterRegistry);
+        searchCache.put(pendingKey, result, searchCache.writeEpoch());
+        searchCache.put(springKey, result, searchCache.writeEpoch());
+    }
+
+    @Test
+    void onTodoChanged_ShouldEvictOnlyResultsTheTodoCouldAppearIn() {
+        // A completed todo about Kotlin matches neither filter
+        searchCache.onTodoChanged(TodoChangedEvent.created(dto("Learn Kotlin", Status.COMPLETED)));
+        assertSame(result, searchCache.get(pendingKey));
+        assertSame(result, searchCache.get(springKey));
+
+        // A completed todo mentioning Spring only affects the keyword search
+        searchCache.onTodoChanged(TodoChangedEvent.created(dto("Upgrade SPRING Boot", Status.COMPLETED)));
+        assertSame(result, searchCache.get(pendingKey));
+        assertNull(searchCache.get(springKey));
+    }
+
+    @Test
+    void onTodoChanged_ShouldEvictResultsMatchingTheStateBeforeTheChange() {
+        TodoDTO before = dto("Learn Kotlin", Status.PENDING);
+        TodoDTO after = dto("Learn Kotlin", Status.COMPLETED);
+
+        searchCache.onTodoChanged(TodoChangedEvent.updated(before, after));
+
+        assertNull(searchCache.get(pendingKey));
+        assertSame(result, searchCache.get(springKey));
+    }
+
+    @Test
+    void put_AfterConcurrentWrite_ShouldNotStoreStaleResult() {
+        TodoSearchCache.SearchKey key = key("kotlin", null);
+        long epoch = searchCache.writeEpoch();
+
+        searchCache.onTodoChanged(TodoChangedEvent.deleted(dto("Learn Kotlin", Status.PENDING)));
+        searchCache.put(key, result, epoch);
+
+        assertNull(searchCache.get(key));
+    }
+
+    @Test
+    void get_ShouldRecordHitsAndMissesAsMetrics() {
+        searchCache.get(pendingKey);
+        searchCache.get(key("missing", null));
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "todoSearch").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "todoSearch").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    private static TodoSearchCache.SearchKey key(String keyword, Status status) {
+        return TodoSearchCache.SearchKey.of(keyword, status, PageRequest.of(0, 10), CountMode.EXACT);
+    }
+
+    private static TodoDTO dto(String title, Status status) {
+        TodoDTO dto = new TodoDTO();
+        dto.setId(UUID.randomUUID());
+        dto.setTodo(title);
+        dto.setStatus(status);
+        return dto;
+    }
+}
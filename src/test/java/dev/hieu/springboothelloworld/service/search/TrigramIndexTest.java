@@ -0,0 +1,131 @@
+package dev.hieu.springboothelloworld.service.search;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrigramIndexTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TrigramIndex trigramIndex;
+
+    private UUID springId;
+    private UUID bugId;
+
+    @BeforeEach
+    void setUp() {
+        springId = UUID.randomUUID();
+        bugId = UUID.randomUUID();
+
+        when(todoRepository.streamAll()).thenReturn(Stream.of(
+                todo(springId, "Complete Spring Boot project", "Finish implementing all features"),
+                todo(bugId, "Fix bug", null)
+        ));
+        trigramIndex.rebuild();
+    }
+
+    @Test
+    void search_BeforeRebuild_ShouldNotAnswer() {
+        TrigramIndex emptyIndex = new TrigramIndex(todoRepository);
+
+        assertEquals(Optional.empty(), emptyIndex.search("spring"));
+    }
+
+    @Test
+    void search_ShouldMatchTitleAndDescriptionIgnoringCase() {
+        assertEquals(Optional.of(Set.of(springId)), trigramIndex.search("SPRING boot"));
+        assertEquals(Optional.of(Set.of(springId)), trigramIndex.search("implementing"));
+        assertEquals(Optional.of(Set.of(bugId)), trigramIndex.search("fix"));
+    }
+
+    @Test
+    void search_ShouldRejectCandidatesWhoseTrigramsAreSplitAcrossFields() {
+        // Every trigram of "ring all" occurs in the first todo, but only spread over both fields
+        assertEquals(Optional.of(Set.of()), trigramIndex.search("ring all"));
+    }
+
+    @Test
+    void search_WithShortOrWildcardKeyword_ShouldFallBack() {
+        assertEquals(Optional.empty(), trigramIndex.search("fi"));
+        assertEquals(Optional.empty(), trigramIndex.search("fix_bug"));
+        assertEquals(Optional.empty(), trigramIndex.search("100%"));
+    }
+
+    @Test
+    void onTodoChanged_ShouldKeepIndexInSync() {
+        UUID newId = UUID.randomUUID();
+        TodoDTO created = dto(newId, "Write release notes", null);
+
+        trigramIndex.onTodoChanged(TodoChangedEvent.created(created));
+        assertEquals(Optional.of(Set.of(newId)), trigramIndex.search("release"));
+
+        TodoDTO updated = dto(newId, "Write changelog", null);
+        trigramIndex.onTodoChanged(TodoChangedEvent.updated(created, updated));
+        assertEquals(Optional.of(Set.of()), trigramIndex.search("release"));
+        assertEquals(Optional.of(Set.of(newId)), trigramIndex.search("changelog"));
+
+        trigramIndex.onTodoChanged(TodoChangedEvent.deleted(updated));
+        assertEquals(Optional.of(Set.of()), trigramIndex.search("changelog"));
+        assertEquals(2, trigramIndex.size());
+    }
+
+    @Test
+    void rebuild_ShouldReplayChangesCommittedWhileStreaming() {
+        UUID newId = UUID.randomUUID();
+        TodoDTO created = dto(newId, "Write release notes", null);
+        TodoDTO staleSpring = todo(springId, "Complete Spring Boot project", "Finish implementing all features");
+        TodoDTO renamedSpring = dto(springId, "Upgrade Spring Boot", null);
+
+        // The changes commit after the stream has read the old spring row but before it finishes
+        when(todoRepository.streamAll()).thenReturn(Stream.of(staleSpring, todo(bugId, "Fix bug", null))
+                .peek(row -> {
+                    if (row.getId().equals(bugId)) {
+                        trigramIndex.onTodoChanged(TodoChangedEvent.created(created));
+                        trigramIndex.onTodoChanged(TodoChangedEvent.updated(staleSpring, renamedSpring));
+                    }
+                }));
+        trigramIndex.rebuild();
+
+        assertEquals(Optional.of(Set.of(newId)), trigramIndex.search("release"));
+        assertEquals(Optional.of(Set.of(springId)), trigramIndex.search("upgrade"));
+        assertEquals(Optional.of(Set.of()), trigramIndex.search("implementing"));
+        assertEquals(3, trigramIndex.size());
+    }
+
+    private TodoDTO todo(UUID id, String title, String description) {
+        TodoDTO todo = new TodoDTO();
+        todo.setId(id);
+        todo.setTodo(title);
+        todo.setDescription(description);
+        todo.setStatus(Status.PENDING);
+        return todo;
+    }
+
+    private TodoDTO dto(UUID id, String title, String description) {
+        TodoDTO dto = new TodoDTO();
+        dto.setId(id);
+        dto.setTodo(title);
+        dto.setDescription(description);
+        dto.setStatus(Status.PENDING);
+        return dto;
+    }
+}
@@ -0,0 +1,154 @@
+package dev.hieu.springboothelloworld.service.stats;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.repository.StatusCount;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import dev.hieu.springboothelloworld.service.event.TodoChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TodoStatusCountersTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoStatusCounters statusCounters;
+
+    @Test
+    void count_BeforeRebuild_ShouldNotAnswer() {
+        assertEquals(OptionalLong.empty(), statusCounters.count(Status.PENDING));
+        assertEquals(OptionalLong.empty(), statusCounters.count(null));
+    }
+
+    @Test
+    void rebuild_ShouldLoadGroupedCounts() {
+        // Given
+        when(todoRepository.countByStatus()).thenReturn(List.of(
+                statusCount(Status.PENDING, 3), statusCount(Status.COMPLETED, 2)));
+
+        // When
+        statusCounters.rebuild();
+
+        // Then
+        assertEquals(OptionalLong.of(3), statusCounters.count(Status.PENDING));
+        assertEquals(OptionalLong.of(0), statusCounters.count(Status.CANCELLED));
+        assertEquals(OptionalLong.of(5), statusCounters.count(null));
+    }
+
+    @Test
+    void onTodoChanged_ShouldMoveCountsBetweenStatuses() {
+        // Given
+        when(todoRepository.countByStatus()).thenReturn(List.of(statusCount(Status.PENDING, 1)));
+        statusCounters.rebuild();
+        TodoDTO pending = dto(Status.PENDING);
+        TodoDTO inProgress = dto(Status.IN_PROGRESS);
+
+        // When
+        statusCounters.onTodoChanged(TodoChangedEvent.created(pending));
+        statusCounters.onTodoChanged(TodoChangedEvent.updated(pending, inProgress));
+        statusCounters.onTodoChanged(TodoChangedEvent.deleted(dto(Status.PENDING)));
+
+        // Then
+        assertEquals(OptionalLong.of(0), statusCounters.count(Status.PENDING));
+        assertEquals(OptionalLong.of(1), statusCounters.count(Status.IN_PROGRESS));
+        assertEquals(OptionalLong.of(1), statusCounters.count(null));
+    }
+
+    @Test
+    void reconcile_ShouldCorrectDriftSeenTwiceInARow() {
+        // Given
+        when(todoRepository.countByStatus())
+                .thenReturn(List.of(statusCount(Status.PENDING, 1)))
+                .thenReturn(List.of(statusCount(Status.PENDING, 4)));
+        statusCounters.rebuild();
+
+        // When
+        statusCounters.reconcile();
+
+        // Then
+        assertEquals(OptionalLong.of(1), statusCounters.count(Status.PENDING));
+
+        // When
+        statusCounters.reconcile();
+
+        // Then
+        assertEquals(OptionalLong.of(4), statusCounters.count(Status.PENDING));
+    }
+
+    @Test
+    void reconcile_ShouldKeepEventsDeliveredWhileConfirmingDrift() {
+        // Given
+        when(todoRepository.countByStatus())
+                .thenReturn(List.of(statusCount(Status.PENDING, 1)))
+                .thenReturn(List.of(statusCount(Status.PENDING, 4)))
+                .thenReturn(List.of(statusCount(Status.PENDING, 5)));
+        statusCounters.rebuild();
+        statusCounters.reconcile();
+
+        // When
+        statusCounters.onTodoChanged(TodoChangedEvent.created(dto(Status.PENDING)));
+        statusCounters.reconcile();
+
+        // Then
+        assertEquals(OptionalLong.of(5), statusCounters.count(Status.PENDING));
+    }
+
+    @Test
+    void reconcile_ShouldIgnoreATransientDifference() {
+        // Given
+        when(todoRepository.countByStatus())
+                .thenReturn(List.of(statusCount(Status.PENDING, 1)))
+                .thenReturn(List.of(statusCount(Status.PENDING, 2)))
+                .thenReturn(List.of(statusCount(Status.PENDING, 2)));
+        statusCounters.rebuild();
+
+        // When: the first read already saw a commit whose event arrives just after it
+        statusCounters.reconcile();
+        statusCounters.onTodoChanged(TodoChangedEvent.created(dto(Status.PENDING)));
+        statusCounters.reconcile();
+
+        // Then
+        assertEquals(OptionalLong.of(2), statusCounters.count(Status.PENDING));
+    }
+
+    @Test
+    void reconcile_BeforeRebuild_ShouldNotQueryDatabase() {
+        statusCounters.reconcile();
+
+        verifyNoInteractions(todoRepository);
+    }
+
+    private StatusCount statusCount(Status status, long count) {
+        return new StatusCount() {
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private TodoDTO dto(Status status) {
+        TodoDTO dto = new TodoDTO();
+        dto.setId(UUID.randomUUID());
+        dto.setStatus(status);
+        return dto;
+    }
+}
@@ -0,0 +1,214 @@
+package dev.hieu.springboothelloworld.service.write;
+
+import dev.hieu.springboothelloworld.domain.Status;
+import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TodoUpdateDTO;
+import dev.hieu.springboothelloworld.exception.ConflictException;
+import dev.hieu.springboothelloworld.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultTodoWriteStrategyTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private DefaultTodoWriteStrategy writeStrategy;
+
+    private UUID todoId;
+    private TodoDTO todoDTO;
+
+    @BeforeEach
+    void setUp() {
+        todoId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        todoDTO = new TodoDTO(todoId, "Test Todo", "Description", Status.PENDING, createdAt, createdAt, null, 3L);
+    }
+
+    @Test
+    void update_WithOnlyTodoField_ShouldUpdateOnlyTodo() {
+        // Given
+        TodoUpdateDTO updateDTO = new TodoUpdateDTO("Updated Todo", null, null, null);
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO));
+        when(todoRepository.updateFields(eq(todoId), eq("Updated Todo"), isNull(), isNull(), isNull(), any(), eq(3L)))
+                .thenReturn(1);
+
+        // When
+        TodoWriteStrategy.Change change = writeStrategy.update(todoId, updateDTO, null).orElseThrow();
+
+        // Then
+        assertSame(todoDTO, change.before());
+        assertEquals("Updated Todo", change.after().getTodo());
+        assertEquals("Description", change.after().getDescription()); // Should remain unchanged
+        assertEquals(Status.PENDING, change.after().getStatus()); // Should remain unchanged
+        assertEquals(todoDTO.getCreatedAt(), change.after().getCreatedAt());
+        assertTrue(change.after().getLastUpdatedAt().isAfter(todoDTO.getLastUpdatedAt()));
+        assertEquals(4L, change.after().getVersion());
+        verify(todoRepository, never()).findById(any());
+        verify(todoRepository, never()).save(any());
+    }
+
+    @Test
+    void update_WithDescriptionAndStatus_ShouldUpdateBoth() {
+        // Given
+        LocalDateTime dueAt = LocalDateTime.of(2024, 12, 20, 17, 0);
+        TodoUpdateDTO updateDTO = new TodoUpdateDTO(null, "Updated Description", Status.COMPLETED, dueAt);
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO));
+        when(todoRepository.updateFields(eq(todoId), isNull(), eq("Updated Description"), eq(Status.COMPLETED),
+                eq(dueAt), any(), eq(3L))).thenReturn(1);
+
+        // When
+        TodoDTO after = writeStrategy.update(todoId, updateDTO, null).orElseThrow().after();
+
+        // Then
+        assertEquals("Test Todo", after.getTodo()); // Should remain unchanged
+        assertEquals("Updated Description", after.getDescription());
+        assertEquals(Status.COMPLETED, after.getStatus());
+        assertEquals(dueAt, after.getDueAt());
+    }
+
+    @Test
+    void update_WhenNotExists_ShouldReturnEmpty() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertTrue(writeStrategy.update(todoId, new TodoUpdateDTO("Updated Todo", null, null, null), null).isEmpty());
+        verify(todoRepository, never()).updateFields(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void update_WhenDeletedMeanwhile_ShouldReturnEmpty() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO), Optional.empty());
+        when(todoRepository.updateFields(eq(todoId), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        // When & Then
+        assertTrue(writeStrategy.update(todoId, new TodoUpdateDTO("Updated Todo", null, null, null), null).isEmpty());
+    }
+
+    @Test
+    void update_WhenChangedMeanwhile_ShouldRetryOnTheNewVersion() {
+        // Given
+        TodoDTO changed = new TodoDTO(todoId, "Test Todo", "Changed meanwhile", Status.IN_PROGRESS,
+                todoDTO.getCreatedAt(), todoDTO.getLastUpdatedAt(), null, 4L);
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO), Optional.of(changed));
+        when(todoRepository.updateFields(eq(todoId), eq("Updated Todo"), isNull(), isNull(), isNull(), any(), eq(3L)))
+                .thenReturn(0);
+        when(todoRepository.updateFields(eq(todoId), eq("Updated Todo"), isNull(), isNull(), isNull(), any(), eq(4L)))
+                .thenReturn(1);
+
+        // When
+        TodoWriteStrategy.Change change = writeStrategy.update(todoId, new TodoUpdateDTO("Updated Todo", null, null, null), null)
+                .orElseThrow();
+
+        // Then
+        assertSame(changed, change.before());
+        assertEquals("Changed meanwhile", change.after().getDescription());
+        assertEquals(Status.IN_PROGRESS, change.after().getStatus());
+        assertEquals(5L, change.after().getVersion());
+    }
+
+    @Test
+    void update_WhenEveryAttemptLosesTheRace_ShouldGiveUpWithConflict() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO));
+        when(todoRepository.updateFields(eq(todoId), any(), any(), any(), any(), any(), eq(3L))).thenReturn(0);
+
+        // When & Then
+        assertThrows(ConflictException.class,
+                () -> writeStrategy.update(todoId, new TodoUpdateDTO("Updated Todo", null, null, null), null));
+        verify(todoRepository, times(DefaultTodoWriteStrategy.MAX_ATTEMPTS)).findDtoById(todoId);
+    }
+
+    @Test
+    void update_WithExpectedVersionChangedMeanwhile_ShouldReturnEmptyWithoutRetrying() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO));
+        when(todoRepository.updateFields(eq(todoId), any(), any(), any(), any(), any(), eq(3L))).thenReturn(0);
+
+        // When & Then
+        assertTrue(writeStrategy.update(todoId, new TodoUpdateDTO("Updated Todo", null, null, null), 3L).isEmpty());
+        verify(todoRepository, times(1)).findDtoById(todoId);
+    }
+
+    @Test
+    void update_WithCurrentExpectedVersion_ShouldMakeTheStatementCheckIt() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO));
+        when(todoRepository.updateFields(eq(todoId), eq("Updated Todo"), isNull(), isNull(), isNull(), any(), eq(3L)))
+                .thenReturn(1);
+
+        // When & Then
+        assertTrue(writeStrategy.update(todoId, new TodoUpdateDTO("Updated Todo", null, null, null), 3L).isPresent());
+    }
+
+    @Test
+    void update_WithStaleExpectedVersion_ShouldReturnEmptyWithoutWriting() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO));
+
+        // When & Then
+        assertTrue(writeStrategy.update(todoId, new TodoUpdateDTO("Updated Todo", null, null, null), 2L).isEmpty());
+        verify(todoRepository, never()).updateFields(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void delete_WhenExists_ShouldDeleteAndReturnLastState() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO));
+        when(todoRepository.deleteAtVersion(todoId, 3L)).thenReturn(1);
+
+        // When & Then
+        assertEquals(Optional.of(todoDTO), writeStrategy.delete(todoId));
+        verify(todoRepository, never()).delete(any());
+    }
+
+    @Test
+    void delete_WhenChangedMeanwhile_ShouldReturnTheStateItDeleted() {
+        // Given
+        TodoDTO changed = new TodoDTO(todoId, "Test Todo", "Description", Status.COMPLETED,
+                todoDTO.getCreatedAt(), todoDTO.getLastUpdatedAt(), null, 4L);
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO), Optional.of(changed));
+        when(todoRepository.deleteAtVersion(todoId, 3L)).thenReturn(0);
+        when(todoRepository.deleteAtVersion(todoId, 4L)).thenReturn(1);
+
+        // When & Then
+        assertEquals(Optional.of(changed), writeStrategy.delete(todoId));
+    }
+
+    @Test
+    void delete_WhenEveryAttemptLosesTheRace_ShouldGiveUpWithConflict() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.of(todoDTO));
+        when(todoRepository.deleteAtVersion(todoId, 3L)).thenReturn(0);
+
+        // When & Then
+        assertThrows(ConflictException.class, () -> writeStrategy.delete(todoId));
+        verify(todoRepository, times(DefaultTodoWriteStrategy.MAX_ATTEMPTS)).deleteAtVersion(todoId, 3L);
+    }
+
+    @Test
+    void delete_WhenNotExists_ShouldReturnEmpty() {
+        // Given
+        when(todoRepository.findDtoById(todoId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertTrue(writeStrategy.delete(todoId).isEmpty());
+        verify(todoRepository, never()).deleteAtVersion(any(), any());
+    }
+}
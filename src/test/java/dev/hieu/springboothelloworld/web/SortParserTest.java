@@ -0,0 +1,78 @@
+package dev.hieu.springboothelloworld.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortParserTest {
+
+    @Test
+    void parse_WithoutSpec_ShouldBeUnsorted() {
+        assertTrue(SortParser.parse(null).isUnsorted());
+        assertTrue(SortParser.parse("  ").isUnsorted());
+    }
+
+    @Test
+    void parse_WithSingleKey_ShouldKeepDirection() {
+        assertEquals(Sort.by(Sort.Direction.DESC, "status"), SortParser.parse("status,DESC"));
+        assertEquals(Sort.by(Sort.Direction.ASC, "createdAt"), SortParser.parse(" createdAt , asc "));
+    }
+
+    @Test
+    void parse_WithMultipleKeys_ShouldKeepTheirOrder() {
+        assertEquals(Sort.by(Sort.Order.desc("status"), Sort.Order.desc("lastUpdatedAt")),
+                SortParser.parse("status,desc;lastUpdatedAt,desc"));
+    }
+
+    @Test
+    void parse_DueAt_ShouldTreatTodosWithoutDueDateAsDueLastUnlessAsked() {
+        assertEquals(Sort.by(Sort.Order.asc("dueAt").nullsLast()), SortParser.parse("dueAt,asc"));
+        assertEquals(Sort.by(Sort.Order.desc("dueAt").nullsFirst()), SortParser.parse("dueAt,desc"));
+        assertEquals(Sort.by(Sort.Order.desc("dueAt").nullsFirst()), SortParser.parse("dueAt,desc,nullsFirst"));
+        // No index returns undated todos at the other end
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("dueAt,desc,nullsLast"));
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("dueAt,asc,nullsFirst"));
+    }
+
+    @Test
+    void parse_WithMixedDirections_ShouldBeRejected() {
+        assertEquals(Sort.by(Sort.Order.desc("status"), Sort.Order.desc("dueAt").nullsFirst()),
+                SortParser.parse("status,desc;dueAt,desc"));
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("status,asc;dueAt,desc"));
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("status,asc;lastUpdatedAt,desc"));
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("status,desc;dueAt,asc"));
+    }
+
+    @Test
+    void sortIndex_ShouldServeItsKeysForwardsAndBackwards() {
+        SortParser.SortIndex index = new SortParser.SortIndex("idx_todo_due_at",
+                Sort.by(Sort.Order.asc("dueAt").nullsLast()));
+
+        assertTrue(index.serves(Sort.by(Sort.Order.asc("dueAt").nullsLast())));
+        assertTrue(index.serves(Sort.by(Sort.Order.desc("dueAt").nullsFirst())));
+        assertFalse(index.serves(Sort.by(Sort.Order.desc("dueAt").nullsLast())));
+        assertEquals(List.of("dueAt,asc,nullsLast", "dueAt,desc,nullsFirst"), index.specs());
+    }
+
+    @Test
+    void parse_WithUnindexedCombination_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("dueAt,asc;status,asc"));
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("status,asc;todo,asc"));
+    }
+
+    @Test
+    void parse_WithUnknownProperty_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("title,asc"));
+    }
+
+    @Test
+    void parse_WithMalformedKey_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("todo"));
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("todo,sideways"));
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("todo,asc,nullsLast"));
+        assertThrows(IllegalArgumentException.class, () -> SortParser.parse("status,asc;status,desc"));
+    }
+}
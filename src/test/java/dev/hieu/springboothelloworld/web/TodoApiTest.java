@@ -3,9 +3,14 @@ package dev.hieu.springboothelloworld.web;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.hieu.springboothelloworld.domain.Status;
 import dev.hieu.springboothelloworld.dto.*;
+import dev.hieu.springboothelloworld.exception.ConflictException;
+import dev.hieu.springboothelloworld.exception.PreconditionFailedException;
 import dev.hieu.springboothelloworld.service.feature.FeatureFlag;
 import dev.hieu.springboothelloworld.service.feature.FeatureFlagService;
 import dev.hieu.springboothelloworld.service.TodoService;
+import dev.hieu.springboothelloworld.service.export.ExportFormat;
+import dev.hieu.springboothelloworld.service.export.TodoExportService;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
 import dev.hieu.springboothelloworld.web.api.TodoApi;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,10 +18,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +46,9 @@ class TodoApiTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoExportService todoExportService;
+
     @MockBean
     private FeatureFlagService featureFlagService;
 
@@ -107,6 +123,253 @@ class TodoApiTest {
         verify(todoService, times(1)).getAllTodos(any(Pageable.class));
     }
 
+    @Test
+    void getAllTodos_WithCursor_ShouldReturnCursorPageResponse() throws Exception {
+        // Given
+        CursorPageResponse<TodoDTO> cursorResponse = new CursorPageResponse<>(
+                Arrays.asList(todoDTO1, todoDTO2), 2, "next-cursor", true
+        );
+        when(todoService.getAllTodos(eq(""), eq(2), any(Sort.class))).thenReturn(cursorResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos")
+                        .param("size", "2")
+                        .param("sort", "todo,asc")
+                        .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(todoService, times(1)).getAllTodos(eq(""), eq(2), eq(Sort.by(Sort.Direction.ASC, "todo")));
+        verify(todoService, never()).getAllTodos(any(Pageable.class));
+    }
+
+    @Test
+    void searchTodos_WithCursor_ShouldReturnCursorPageResponse() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        CursorPageResponse<TodoDTO> cursorResponse = new CursorPageResponse<>(
+                Arrays.asList(todoDTO1), 10, null, false
+        );
+        when(todoService.searchTodos(eq("Test"), isNull(), eq("abc"), eq(10), any(Sort.class)))
+                .thenReturn(cursorResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "Test")
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void searchTodos_WithCountNone_ShouldSkipCountQuery() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        PageResponse<TodoDTO> sliceResponse = new PageResponse<>(
+                Arrays.asList(todoDTO1, todoDTO2),
+                0, 2, -1, -1, true, false, TotalElementsAccuracy.UNKNOWN
+        );
+        when(todoService.searchTodos(eq("Test"), isNull(), any(Pageable.class), eq(CountMode.NONE)))
+                .thenReturn(sliceResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "Test")
+                        .param("size", "2")
+                        .param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(-1))
+                .andExpect(jsonPath("$.totalElementsAccuracy").value("UNKNOWN"))
+                .andExpect(jsonPath("$.last").value(false));
+
+        verify(todoService, never()).searchTodos(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void suggestTitles_ShouldReturnSuggestionsWithClampedLimit() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        when(todoService.suggestTitles("comp", 50)).thenReturn(Arrays.asList("Complete project", "Compile docs"));
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/suggest")
+                        .param("prefix", "comp")
+                        .param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0]").value("Complete project"));
+    }
+
+    @Test
+    void suggestTitles_WhenSearchDisabled_ShouldReturn503() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/suggest").param("prefix", "comp"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(todoService, never()).suggestTitles(anyString(), anyInt());
+    }
+
+    @Test
+    void searchTodos_WithFuzzy_ShouldUseFuzzySearch() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
+                Arrays.asList(todoDTO1),
+                0, 10, 1, 1, true, true
+        );
+        when(todoService.fuzzySearchTodos(eq("Tset"), isNull(), any(Pageable.class))).thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "Tset")
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+        verify(todoService, never()).searchTodos(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchTodos_WithFuzzyAndCursor_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "Tset")
+                        .param("fuzzy", "true")
+                        .param("cursor", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchTodos_WithRanked_ShouldUseRankedSearch() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
+                Arrays.asList(todoDTO1),
+                0, 10, 1, 1, true, true
+        );
+        when(todoService.rankedSearchTodos(eq("testing"), eq(Status.PENDING), any(Pageable.class))).thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "testing")
+                        .param("status", "PENDING")
+                        .param("ranked", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+        verify(todoService, never()).searchTodos(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchTodos_WithFacets_ShouldIncludeStatusCounts() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
+                Arrays.asList(todoDTO1),
+                0, 10, 1, 1, true, true
+        );
+        when(todoService.searchTodos(eq("Test"), eq(Status.PENDING), any(Pageable.class))).thenReturn(pageResponse);
+        when(todoService.countTodosByStatus("Test")).thenReturn(Map.of(Status.PENDING, 1L, Status.COMPLETED, 3L));
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "Test")
+                        .param("status", "PENDING")
+                        .param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.facets.PENDING").value(1))
+                .andExpect(jsonPath("$.facets.COMPLETED").value(3));
+    }
+
+    @Test
+    void searchTodos_WithoutFacets_ShouldOmitFacets() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
+                Arrays.asList(todoDTO1),
+                0, 10, 1, 1, true, true
+        );
+        when(todoService.searchTodos(eq("Test"), isNull(), any(Pageable.class))).thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "Test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets").doesNotExist());
+
+        verify(todoService, never()).countTodosByStatus(any());
+    }
+
+    @Test
+    void searchTodos_WithFacetsAndCursor_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("facets", "true")
+                        .param("cursor", ""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportTodos_AsCsv_ShouldStreamAttachment() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("id,todo\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(todoExportService).export(eq("Test"), eq(Status.PENDING), eq(ExportFormat.CSV), any(OutputStream.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/todos/export")
+                        .param("format", "csv")
+                        .param("keyword", "Test")
+                        .param("status", "PENDING"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"todos.csv\""))
+                .andExpect(content().string("id,todo\r\n"));
+    }
+
+    @Test
+    void exportTodos_WithUnsupportedFormat_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/todos/export")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(todoExportService);
+    }
+
+    @Test
+    void exportTodos_WithFilterWhenSearchDisabled_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/export")
+                        .param("status", "PENDING"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
     @Test
     void searchTodos_WithKeyword_ShouldReturnFilteredResults() throws Exception {
         // Given
@@ -167,6 +430,82 @@ class TodoApiTest {
         verify(todoService, times(1)).getTodoById(todoId1);
     }
 
+    @Test
+    void getTodoById_WithCurrentETag_ShouldReturnNotModifiedWithoutBody() throws Exception {
+        // Given
+        todoDTO1.setVersion(3L);
+        when(todoService.getTodoById(todoId1)).thenReturn(todoDTO1);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/{id}", todoId1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        mockMvc.perform(get("/api/todos/{id}", todoId1).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/todos/{id}", todoId1).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllTodos_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+        // Given
+        todoDTO1.setVersion(3L);
+        PageResponse<TodoDTO> page = new PageResponse<>(List.of(todoDTO1), 0, 10, 1, 1, true, true);
+        when(todoService.getAllTodos(any(Pageable.class))).thenReturn(page);
+        String etag = mockMvc.perform(get("/api/todos"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        todoDTO1.setVersion(4L);
+        mockMvc.perform(get("/api/todos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllTodos_WithCursorAndCurrentETag_ShouldReturnNotModified() throws Exception {
+        // Given
+        todoDTO1.setVersion(3L);
+        CursorPageResponse<TodoDTO> page = new CursorPageResponse<>(List.of(todoDTO1), 10, "next-cursor", true);
+        when(todoService.getAllTodos(eq("abc"), eq(10), any(Sort.class))).thenReturn(page);
+        String etag = mockMvc.perform(get("/api/todos").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos").param("cursor", "abc").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // A todo inserted after the page moves the next cursor even though the page's todos are unchanged
+        page.setNextCursor("other-cursor");
+        mockMvc.perform(get("/api/todos").param("cursor", "abc").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void searchTodos_WithCursorAndChangedTodo_ShouldReturnNewETag() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        todoDTO1.setVersion(3L);
+        CursorPageResponse<TodoDTO> page = new CursorPageResponse<>(List.of(todoDTO1), 10, null, false);
+        when(todoService.searchTodos(eq("Test"), isNull(), eq(""), eq(10), any(Sort.class))).thenReturn(page);
+        String etag = mockMvc.perform(get("/api/todos/search").param("keyword", "Test").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        todoDTO1.setVersion(4L);
+        mockMvc.perform(get("/api/todos/search").param("keyword", "Test").param("cursor", "")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
     @Test
     void createTodo_WithValidData_ShouldCreateAndReturnTodo() throws Exception {
         // Given
@@ -211,6 +550,60 @@ class TodoApiTest {
         verify(todoService, never()).createTodo(any(TodoCreateDTO.class));
     }
 
+    @Test
+    void createTodos_ShouldReturnCreatedTodosAndItemErrors() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+        BulkResponse<TodoDTO> response = new BulkResponse<>(
+                List.of(todoDTO1),
+                List.of(new BulkItemError(1, List.of("todo: Todo title is required")))
+        );
+        when(todoService.createTodos(anyList())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"todo\":\"Test Todo 1\"},{\"todo\":\"\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(todoId1.toString()))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].errors[0]").value("todo: Todo title is required"))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1));
+
+        // Invalid items reach the service, which reports them instead of failing the request
+        verify(todoService).createTodos(argThat(items -> items.size() == 2));
+    }
+
+    @Test
+    void createTodos_WithTooManyItems_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+        String body = "[" + String.join(",", Collections.nCopies(1001, "{\"todo\":\"Bulk\"}")) + "]";
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        verify(todoService, never()).createTodos(anyList());
+    }
+
+    @Test
+    void createTodos_WhenWriteApiDisabled_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"todo\":\"New Todo\"}]"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(todoService, never()).createTodos(anyList());
+    }
+
     @Test
     void updateTodo_WithValidData_ShouldUpdateAndReturnTodo() throws Exception {
         // Given
@@ -225,7 +618,7 @@ class TodoApiTest {
         updatedDTO.setDescription("Description 1");
         updatedDTO.setStatus(Status.COMPLETED);
 
-        when(todoService.updateTodo(eq(todoId1), any(TodoUpdateDTO.class))).thenReturn(updatedDTO);
+        when(todoService.updateTodo(eq(todoId1), any(TodoUpdateDTO.class), isNull())).thenReturn(updatedDTO);
 
         // When & Then
         mockMvc.perform(put("/api/todos/{id}", todoId1)
@@ -235,7 +628,142 @@ class TodoApiTest {
                 .andExpect(jsonPath("$.todo").value("Updated Todo"))
                 .andExpect(jsonPath("$.status").value("COMPLETED"));
 
-        verify(todoService, times(1)).updateTodo(eq(todoId1), any(TodoUpdateDTO.class));
+        verify(todoService, times(1)).updateTodo(eq(todoId1), any(TodoUpdateDTO.class), isNull());
+    }
+
+    @Test
+    void updateTodo_WithIfMatch_ShouldUpdateOnlyThatVersion() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+        todoDTO1.setVersion(4L);
+        when(todoService.updateTodo(eq(todoId1), any(TodoUpdateDTO.class), eq(3L))).thenReturn(todoDTO1);
+
+        // When & Then
+        mockMvc.perform(put("/api/todos/{id}", todoId1)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"todo\":\"Updated Todo\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void updateTodo_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+        when(todoService.updateTodo(eq(todoId1), any(TodoUpdateDTO.class), eq(3L)))
+                .thenThrow(new PreconditionFailedException("Todo", todoId1, 3L));
+
+        // When & Then
+        mockMvc.perform(put("/api/todos/{id}", todoId1)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"todo\":\"Updated Todo\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateTodo_WhenArchived_ShouldReturnConflict() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+        when(todoService.updateTodo(eq(todoId1), any(TodoUpdateDTO.class), isNull()))
+                .thenThrow(new ConflictException("Todo '" + todoId1 + "' is archived and can no longer be changed"));
+
+        // When & Then
+        mockMvc.perform(put("/api/todos/{id}", todoId1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"todo\":\"Updated Todo\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void updateTodo_WithWeakIfMatch_ShouldReturnPreconditionFailedWithoutWriting() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(put("/api/todos/{id}", todoId1)
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"todo\":\"Updated Todo\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(todoService, never()).updateTodo(any(), any(), any());
+    }
+
+    @Test
+    void updateTodoStatuses_ShouldReturnUpdatedCount() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+        TodoStatusUpdateDTO statusUpdateDTO = new TodoStatusUpdateDTO(
+                List.of(todoId1, todoId2), null, null, Status.COMPLETED);
+        when(todoService.updateTodoStatuses(statusUpdateDTO)).thenReturn(2);
+
+        // When & Then
+        mockMvc.perform(patch("/api/todos/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(statusUpdateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+    }
+
+    @Test
+    void updateTodoStatuses_WithoutTargetStatus_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(patch("/api/todos/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + todoId1 + "\"]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(todoService, never()).updateTodoStatuses(any());
+    }
+
+    @Test
+    void updateTodoStatuses_ByFilterWhenSearchDisabled_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(patch("/api/todos/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keyword\":\"sprint\",\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(todoService, never()).updateTodoStatuses(any());
+    }
+
+    @Test
+    void deleteTodos_ShouldReturnDeletedCountAndUnknownIds() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(true);
+        TodoBulkDeleteDTO bulkDeleteDTO = new TodoBulkDeleteDTO(List.of(todoId1, todoId2), null, null);
+        when(todoService.deleteTodos(bulkDeleteDTO)).thenReturn(new BulkDeleteResponse(1, List.of(todoId2)));
+
+        // When & Then
+        mockMvc.perform(delete("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkDeleteDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(1))
+                .andExpect(jsonPath("$.notFound[0]").value(todoId2.toString()));
+    }
+
+    @Test
+    void deleteTodos_WhenWriteApiDisabled_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_WRITE_API)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(delete("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"CANCELLED\"}"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(todoService, never()).deleteTodos(any());
     }
 
     @Test
@@ -251,6 +779,107 @@ class TodoApiTest {
         verify(todoService, times(1)).deleteTodo(todoId1);
     }
 
+    @Test
+    void getAllTodos_WithMultiKeySort_ShouldPassEveryKeyToTheService() throws Exception {
+        // Given
+        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
+                Arrays.asList(todoDTO1, todoDTO2),
+                0, 10, 2, 1, true, true
+        );
+        when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos")
+                        .param("sort", "status,asc;dueAt,asc"))
+                .andExpect(status().isOk());
+
+        verify(todoService).getAllTodos(argThat((Pageable pageable) -> pageable.getSort().equals(
+                Sort.by(Sort.Order.asc("status"), Sort.Order.asc("dueAt").nullsLast()))));
+    }
+
+    @Test
+    void getAllTodos_WithUnsupportedSort_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/todos")
+                        .param("sort", "createdAt,asc;todo,asc"))
+                .andExpect(status().isBadRequest());
+
+        verify(todoService, never()).getAllTodos(any(Pageable.class));
+    }
+
+    @Test
+    void getAllTodos_WithMixedDirectionSort_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/todos")
+                        .param("sort", "status,asc;lastUpdatedAt,desc"))
+                .andExpect(status().isBadRequest());
+
+        verify(todoService, never()).getAllTodos(any(Pageable.class));
+    }
+
+    @Test
+    void getAllTodos_WithIncludeArchived_ShouldListArchivedTodosToo() throws Exception {
+        // Given
+        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
+                Arrays.asList(todoDTO1, todoDTO2),
+                0, 10, 2, 1, true, true
+        );
+        when(todoService.getAllTodosIncludingArchived(any(Pageable.class))).thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+
+        verify(todoService, never()).getAllTodos(any(Pageable.class));
+    }
+
+    @Test
+    void getAllTodos_WithIncludeArchivedAndCursor_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/todos")
+                        .param("includeArchived", "true")
+                        .param("cursor", ""))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    void searchTodos_WithIncludeArchived_ShouldSearchArchivedTodosToo() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
+                List.of(todoDTO1), 0, 10, 1, 1, true, true
+        );
+        when(todoService.searchTodosIncludingArchived(eq("Test"), eq(Status.COMPLETED), any(Pageable.class)))
+                .thenReturn(pageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "Test")
+                        .param("status", "COMPLETED")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+        verify(todoService, never()).searchTodos(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void searchTodos_WithIncludeArchivedAndRanked_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/search")
+                        .param("keyword", "Test")
+                        .param("ranked", "true")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void createPageable_WithValidSort_ShouldCreatePageableWithSort() {
         // This tests the private method indirectly through the controller
@@ -286,20 +915,13 @@ class TodoApiTest {
     }
 
     @Test
-    void createPageable_WithInvalidSort_ShouldIgnoreSort() throws Exception {
-        // Given
-        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
-                Arrays.asList(todoDTO1, todoDTO2),
-                0, 10, 2, 1, true, true
-        );
-        when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
-
-        // When & Then - Invalid sort property should be ignored
+    void createPageable_WithInvalidSort_ShouldReturnBadRequest() throws Exception {
+        // When & Then - An invalid sort property is rejected rather than ignored
         mockMvc.perform(get("/api/todos")
                         .param("sort", "invalidField,asc"))
-                .andExpect(status().isOk());
+                .andExpect(status().isBadRequest());
 
-        verify(todoService, times(1)).getAllTodos(any(Pageable.class));
+        verify(todoService, never()).getAllTodos(any(Pageable.class));
     }
 
     @Test
@@ -353,20 +975,13 @@ class TodoApiTest {
     }
 
     @Test
-    void getAllTodos_WithSingleParameterSort_ShouldIgnore() throws Exception {
-        // Given
-        PageResponse<TodoDTO> pageResponse = new PageResponse<>(
-                Arrays.asList(todoDTO1, todoDTO2),
-                0, 10, 2, 1, true, true
-        );
-        when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
-
+    void getAllTodos_WithSingleParameterSort_ShouldReturnBadRequest() throws Exception {
         // When & Then
         mockMvc.perform(get("/api/todos")
                         .param("sort", "todo"))
-                .andExpect(status().isOk());
+                .andExpect(status().isBadRequest());
 
-        verify(todoService, times(1)).getAllTodos(any(Pageable.class));
+        verify(todoService, never()).getAllTodos(any(Pageable.class));
     }
 
     @Test
@@ -5,7 +5,9 @@ import dev.hieu.springboothelloworld.service.feature.FeatureFlagService;
 import dev.hieu.springboothelloworld.domain.Status;
 import dev.hieu.springboothelloworld.dto.PageResponse;
 import dev.hieu.springboothelloworld.dto.TodoDTO;
+import dev.hieu.springboothelloworld.dto.TotalElementsAccuracy;
 import dev.hieu.springboothelloworld.service.TodoService;
+import dev.hieu.springboothelloworld.service.paging.CountMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,11 +16,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import dev.hieu.springboothelloworld.util.TestDataLoader;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.ui.Model;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -64,6 +68,37 @@ class TodoControllerTest {
         );
     }
 
+    @Test
+    void listTodos_WithoutKeyword_ShouldAddStatusFacets() {
+        // Given
+        Map<Status, Long> facets = Map.of(Status.PENDING, 2L, Status.COMPLETED, 5L);
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
+        when(todoService.countTodosByStatus(null)).thenReturn(facets);
+
+        // When
+        String viewName = todoController.listTodos(0, 10, null, null, null, CountMode.EXACT, model);
+
+        // Then
+        assertEquals("todos/list", viewName);
+        verify(model, times(1)).addAttribute("statusFacets", facets);
+    }
+
+    @Test
+    void listTodos_WithKeyword_ShouldNotCountPerStatus() {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        when(todoService.searchTodos(eq("Test"), isNull(), any(Pageable.class))).thenReturn(pageResponse);
+
+        // When
+        String viewName = todoController.listTodos(0, 10, null, "Test", null, CountMode.EXACT, model);
+
+        // Then
+        assertEquals("todos/list", viewName);
+        verify(model, times(1)).addAttribute("statusFacets", null);
+        verify(todoService, never()).countTodosByStatus(any());
+    }
+
     @Test
     void listTodos_WithoutFilters_ShouldReturnListPage() {
         // Given
@@ -71,7 +106,7 @@ class TodoControllerTest {
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, null, null, null, model);
+        String viewName = todoController.listTodos(0, 10, null, null, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -98,7 +133,7 @@ class TodoControllerTest {
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(clampedResponse);
 
         // When - size = 0 should be clamped to 1
-        String viewName = todoController.listTodos(0, 0, null, null, null, model);
+        String viewName = todoController.listTodos(0, 0, null, null, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -116,7 +151,7 @@ class TodoControllerTest {
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(clampedResponse);
 
         // When - size = 101 should be clamped to 100
-        String viewName = todoController.listTodos(0, 101, null, null, null, model);
+        String viewName = todoController.listTodos(0, 101, null, null, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -134,7 +169,7 @@ class TodoControllerTest {
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(emptyResponse);
 
         // When - page = 5 but totalPages = 1, should redirect to page 0
-        String result = todoController.listTodos(5, 10, null, null, null, model);
+        String result = todoController.listTodos(5, 10, null, null, null, CountMode.EXACT, model);
 
         // Then - Should redirect
         assertTrue(result.startsWith("redirect:"));
@@ -155,12 +190,49 @@ class TodoControllerTest {
         when(todoService.searchTodos(eq(keyword), eq(status), any(Pageable.class))).thenReturn(emptyResponse);
 
         // When - page = 5 but totalPages = 1, should redirect to page 0 and keep filters
-        String result = todoController.listTodos(5, 10, sort, keyword, status, model);
+        String result = todoController.listTodos(5, 10, sort, keyword, status, CountMode.EXACT, model);
 
         // Then
         assertEquals("redirect:/todos?page=0&size=10&sort=todo,asc&keyword=Test&status=PENDING", result);
     }
 
+    @Test
+    void listTodos_WithoutCount_ShouldSkipCountQueryAndOfferNextPage() {
+        // Given
+        PageResponse<TodoDTO> sliceResponse = new PageResponse<>(
+                Arrays.asList(todoDTO1, todoDTO2),
+                1, 2, -1, -1, false, false, TotalElementsAccuracy.UNKNOWN
+        );
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        when(todoService.getAllTodos(any(Pageable.class), eq(CountMode.NONE))).thenReturn(sliceResponse);
+
+        // When
+        String viewName = todoController.listTodos(1, 2, null, null, null, CountMode.NONE, model);
+
+        // Then - pages up to the next one are offered, and the count mode is kept in links
+        assertEquals("todos/list", viewName);
+        verify(todoService, never()).getAllTodos(any(Pageable.class));
+        verify(model, times(1)).addAttribute("pageNumbers", List.of(0, 1, 2));
+        verify(model, times(1)).addAttribute("count", CountMode.NONE);
+    }
+
+    @Test
+    void listTodos_WithoutCountAndPastTheEnd_ShouldRedirectToFirstPage() {
+        // Given
+        PageResponse<TodoDTO> emptySlice = new PageResponse<>(
+                Arrays.asList(),
+                5, 10, -1, -1, false, true, TotalElementsAccuracy.UNKNOWN
+        );
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        when(todoService.searchTodos(eq("Test"), isNull(), any(Pageable.class), eq(CountMode.NONE))).thenReturn(emptySlice);
+
+        // When
+        String result = todoController.listTodos(5, 10, null, "Test", null, CountMode.NONE, model);
+
+        // Then
+        assertEquals("redirect:/todos?page=0&size=10&keyword=Test&count=NONE", result);
+    }
+
     @Test
     void listTodos_WithKeyword_ShouldUseSearch() {
         // Given
@@ -169,7 +241,7 @@ class TodoControllerTest {
         when(todoService.searchTodos(eq(keyword), isNull(), any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, null, keyword, null, model);
+        String viewName = todoController.listTodos(0, 10, null, keyword, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -185,7 +257,7 @@ class TodoControllerTest {
         when(todoService.searchTodos(isNull(), eq(status), any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, null, null, status, model);
+        String viewName = todoController.listTodos(0, 10, null, null, status, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -202,7 +274,7 @@ class TodoControllerTest {
         when(todoService.searchTodos(eq(keyword), eq(status), any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, null, keyword, status, model);
+        String viewName = todoController.listTodos(0, 10, null, keyword, status, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -218,7 +290,7 @@ class TodoControllerTest {
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, null, keyword, null, model);
+        String viewName = todoController.listTodos(0, 10, null, keyword, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -234,7 +306,7 @@ class TodoControllerTest {
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, sort, null, null, model);
+        String viewName = todoController.listTodos(0, 10, sort, null, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -249,7 +321,7 @@ class TodoControllerTest {
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, sort, null, null, model);
+        String viewName = todoController.listTodos(0, 10, sort, null, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
@@ -257,33 +329,50 @@ class TodoControllerTest {
     }
 
     @Test
-    void listTodos_WithInvalidSort_ShouldIgnoreSort() {
+    void listTodos_WithInvalidSort_ShouldReportItAndUseDefaultOrder() {
         // Given
         String sort = "invalidField,asc";
         when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, sort, null, null, model);
+        String viewName = todoController.listTodos(0, 10, sort, null, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
-        verify(todoService, times(1)).getAllTodos(any(Pageable.class));
+        verify(todoService, times(1)).getAllTodos(argThat((Pageable pageable) -> pageable.getSort().isUnsorted()));
+        verify(model, times(1)).addAttribute(eq("errorMessage"), startsWith("Unsupported sort 'invalidField,asc'"));
+        verify(model, times(1)).addAttribute("sort", null);
     }
 
     @Test
-    void listTodos_WithMalformedSort_ShouldIgnoreSort() {
+    void listTodos_WithMixedDirectionSort_ShouldReportIt() {
+        // Given
+        when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
+        when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
+
+        // When
+        todoController.listTodos(0, 10, "status,asc;dueAt,desc", null, null, CountMode.EXACT, model);
+
+        // Then
+        verify(model, times(1)).addAttribute(eq("errorMessage"), startsWith("Unsupported sort"));
+        verify(todoService, times(1)).getAllTodos(argThat((Pageable pageable) -> pageable.getSort().isUnsorted()));
+    }
+
+    @Test
+    void listTodos_WithMalformedSort_ShouldReportItAndUseDefaultOrder() {
         // Given
         String sort = "todo";
         when(featureFlagService.isEnabled(FeatureFlag.TODO_SEARCH_API)).thenReturn(true);
         when(todoService.getAllTodos(any(Pageable.class))).thenReturn(pageResponse);
 
         // When
-        String viewName = todoController.listTodos(0, 10, sort, null, null, model);
+        String viewName = todoController.listTodos(0, 10, sort, null, null, CountMode.EXACT, model);
 
         // Then
         assertEquals("todos/list", viewName);
         verify(todoService, times(1)).getAllTodos(any(Pageable.class));
+        verify(model, times(1)).addAttribute(eq("errorMessage"), anyString());
     }
 
     @Test
@@ -505,7 +594,7 @@ class TodoControllerTest {
     @Test
     void createPageable_WithValidSortProperties_ShouldCreateSortedPageable() {
         // Test all valid sort properties
-        String[] validProperties = {"todo", "description", "status", "id"};
+        String[] validProperties = {"todo", "description", "status", "id", "createdAt", "lastUpdatedAt", "dueAt"};
         String[] directions = {"asc", "desc"};
 
         for (String property : validProperties) {
@@ -582,21 +671,21 @@ class TodoControllerTest {
     }
 
     @Test
-    void isValidSortProperty_WithValidProperties_ShouldReturnTrue() {
-        // Test all valid properties
-        assertTrue(invokeIsValidSortProperty("todo"));
-        assertTrue(invokeIsValidSortProperty("description"));
-        assertTrue(invokeIsValidSortProperty("status"));
-        assertTrue(invokeIsValidSortProperty("id"));
+    void createPageable_WithMultiKeySort_ShouldSortByEveryKey() {
+        // When
+        Pageable pageable = invokeCreatePageable(0, 10, "status,desc;dueAt,desc");
+
+        // Then
+        assertEquals(Sort.by(Sort.Order.desc("status"), Sort.Order.desc("dueAt").nullsFirst()), pageable.getSort());
     }
 
     @Test
-    void isValidSortProperty_WithInvalidProperties_ShouldReturnFalse() {
-        // Test invalid properties
-        assertFalse(invokeIsValidSortProperty("invalid"));
-        assertFalse(invokeIsValidSortProperty("title"));
-        assertFalse(invokeIsValidSortProperty(""));
-        assertFalse(invokeIsValidSortProperty("createdAt"));
+    void createPageable_WithUnindexedCombination_ShouldReturnUnsorted() {
+        // When
+        Pageable pageable = invokeCreatePageable(0, 10, "todo,asc;dueAt,desc");
+
+        // Then
+        assertFalse(pageable.getSort().isSorted());
     }
 
     @Test
@@ -640,17 +729,6 @@ class TodoControllerTest {
         }
     }
 
-    private boolean invokeIsValidSortProperty(String property) {
-        try {
-            java.lang.reflect.Method method = TodoController.class.getDeclaredMethod(
-                    "isValidSortProperty", String.class);
-            method.setAccessible(true);
-            return (Boolean) method.invoke(todoController, property);
-        } catch (java.lang.reflect.InvocationTargetException | NoSuchMethodException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     private List<Integer> invokeCalculatePageNumbers(int currentPage, int totalPages) {
         try {
             java.lang.reflect.Method method = TodoController.class.getDeclaredMethod(